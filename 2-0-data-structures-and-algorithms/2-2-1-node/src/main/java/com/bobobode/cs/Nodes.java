@@ -1,7 +1,11 @@
 package com.bobobode.cs;
 
+import java.util.Comparator;
+
 /**
- * A class that consists of static methods only and provides util methods for {@link Node}.
+ * A class that consists of static methods only and provides util methods for {@link Node}. Methods that analyse or
+ * transform a chain walk it with a constant number of references and relink existing nodes in place, so they use O(1)
+ * extra memory no matter how long the chain is.
  *
  * @author Taras Boychuk
  */
@@ -99,4 +103,206 @@ public class Nodes {
         currentNode.next = firstNode;
         return firstNode;
     }
+
+    /**
+     * Checks if a chain that starts from provided node has a cycle, using Floyd's "tortoise and hare" algorithm. The
+     * hare moves two nodes at a time and the tortoise moves one, so the hare either reaches the end of the chain, or
+     * catches up with the tortoise inside a cycle.
+     *
+     * @param head the first node of the chain, or null
+     * @param <T>  generic type T
+     * @return {@code true} if the chain has a cycle, {@code false} if it ends with null
+     */
+    public static <T> boolean hasCycle(Node<T> head) {
+        var tortoise = head;
+        var hare = head;
+        while (hare != null && hare.next != null) {
+            tortoise = tortoise.next;
+            hare = hare.next.next;
+            if (tortoise == hare) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of nodes in a cycle of a chain, using Brent's algorithm. The tortoise waits at a node while
+     * the hare makes 1, 2, 4, 8... steps, and jumps to the hare after each round. The hare meets the tortoise in the
+     * first round that is not shorter than the cycle, and the number of steps it made in that round is the cycle
+     * length.
+     *
+     * @param head the first node of the chain, or null
+     * @param <T>  generic type T
+     * @return the number of nodes in the cycle, or 0 if the chain has no cycle
+     */
+    public static <T> int cycleLength(Node<T> head) {
+        if (head == null) return 0;
+
+        int power = 1;
+        int length = 1;
+        var tortoise = head;
+        var hare = head.next;
+        while (hare != null && hare != tortoise) {
+            if (length == power) {
+                tortoise = hare;
+                power <<= 1;
+                length = 0;
+            }
+            hare = hare.next;
+            length++;
+        }
+        return hare == null ? 0 : length;
+    }
+
+    /**
+     * Returns the first node of a chain that belongs to its cycle. Once the cycle length is known from
+     * {@link Nodes#cycleLength(Node)}, one reference starts that many nodes ahead of the other, and they meet at the
+     * start of the cycle.
+     *
+     * @param head the first node of the chain, or null
+     * @param <T>  generic type T
+     * @return the first node of the cycle, or null if the chain has no cycle
+     */
+    public static <T> Node<T> cycleStart(Node<T> head) {
+        final int length = cycleLength(head);
+        if (length == 0) return null;
+
+        var ahead = head;
+        for (int i = 0; i < length; i++) {
+            ahead = ahead.next;
+        }
+        var behind = head;
+        while (behind != ahead) {
+            behind = behind.next;
+            ahead = ahead.next;
+        }
+        return behind;
+    }
+
+    /**
+     * Reverses a chain in place, so every node holds a reference to the node that was previous to it. The chain must
+     * not have a cycle.
+     *
+     * @param head the first node of the chain, or null
+     * @param <T>  generic type T
+     * @return the first node of the reversed chain, which was the last node of provided chain
+     */
+    public static <T> Node<T> reverse(Node<T> head) {
+        Node<T> previous = null;
+        var current = head;
+        while (current != null) {
+            final var next = current.next;
+            current.next = previous;
+            previous = current;
+            current = next;
+        }
+        return previous;
+    }
+
+    /**
+     * Splits a chain in two halves in place. The hare moves two nodes at a time while the tortoise moves one, so when
+     * the hare reaches the end, the tortoise stands at the last node of the first half. A chain of odd length keeps
+     * the extra node in the first half. Halves can be split again to process a chain in parallel. The chain must not
+     * have a cycle.
+     *
+     * @param head the first node of the chain, or null
+     * @param <T>  generic type T
+     * @return the first node of the second half, or null if the chain has less than two nodes
+     */
+    public static <T> Node<T> split(Node<T> head) {
+        if (head == null || head.next == null) return null;
+
+        var tortoise = head;
+        var hare = head;
+        while (hare.next != null && hare.next.next != null) {
+            tortoise = tortoise.next;
+            hare = hare.next.next;
+        }
+        final var secondHead = tortoise.next;
+        tortoise.next = null;
+        return secondHead;
+    }
+
+    /**
+     * Merges two sorted chains into one sorted chain by relinking their nodes. When elements are equal, a node of the
+     * first chain goes first.
+     *
+     * @param first      the first node of a sorted chain, or null
+     * @param second     the first node of another sorted chain, or null
+     * @param comparator a comparator to compare elements, or {@code null} for natural ordering
+     * @param <T>        generic type T
+     * @return the first node of the merged chain
+     */
+    public static <T> Node<T> merge(Node<T> first, Node<T> second, Comparator<? super T> comparator) {
+        return mergeRuns(first, second, orderOf(comparator));
+    }
+
+    /**
+     * Sorts a chain in place with a merge sort that needs neither an array copy nor recursion. Nodes are taken from the
+     * chain one by one, and sorted runs are kept in bins, where a bin {@code i} holds a run of 2^i nodes. A new node
+     * is merged with runs from the lowest bins while they are full, just like a carry propagates when a binary counter
+     * is incremented. Runs are merged as soon as they have equal lengths, so small merges work on nodes that were just
+     * visited and are still in a CPU cache. The sort is stable, takes O(n log n) time and uses 64 bins no matter how
+     * long the chain is. The chain must not have a cycle.
+     *
+     * @param head       the first node of the chain, or null
+     * @param comparator a comparator to compare elements, or {@code null} for natural ordering
+     * @param <T>        generic type T
+     * @return the first node of the sorted chain
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Node<T> sort(Node<T> head, Comparator<? super T> comparator) {
+        if (head == null || head.next == null) return head;
+
+        final Comparator<? super T> order = orderOf(comparator);
+        final var bins = (Node<T>[]) new Node<?>[Long.SIZE];
+        int used = 0;
+        var rest = head;
+        while (rest != null) {
+            var run = rest;
+            rest = rest.next;
+            run.next = null;
+            int bin = 0;
+            for (; bin < used && bins[bin] != null; bin++) {
+                run = mergeRuns(bins[bin], run, order);
+                bins[bin] = null;
+            }
+            if (bin == used) used++;
+            bins[bin] = run;
+        }
+
+        Node<T> sorted = null;
+        for (int bin = 0; bin < used; bin++) {
+            sorted = mergeRuns(bins[bin], sorted, order);
+        }
+        return sorted;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Comparator<? super T> orderOf(Comparator<? super T> comparator) {
+        return comparator != null ? comparator : (Comparator<? super T>) Comparator.naturalOrder();
+    }
+
+    /**
+     * Merges two sorted chains. A node of the first chain goes first when elements are equal, so the first chain must
+     * hold elements that were earlier in the input to keep a sort stable.
+     */
+    private static <T> Node<T> mergeRuns(Node<T> first, Node<T> second, Comparator<? super T> order) {
+        if (first == null) return second;
+        if (second == null) return first;
+
+        final var sentinel = new Node<T>();
+        var tail = sentinel;
+        while (first != null && second != null) {
+            if (order.compare(first.element, second.element) <= 0) {
+                tail.next = first;
+                first = first.next;
+            } else {
+                tail.next = second;
+                second = second.next;
+            }
+            tail = tail.next;
+        }
+        tail.next = first != null ? first : second;
+        return sentinel.next;
+    }
 }
@@ -10,7 +10,11 @@ import org.junit.jupiter.api.TestMethodOrder;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -110,6 +114,130 @@ class NodesTest {
         assertThat(getNodeNext(fourthNode)).isEqualTo(firstNode);
     }
 
+    @Test
+    @Order(7)
+    void hasCycle() {
+        Node<Integer> rho = Nodes.chainOf(1, 2, 3, 4, 5, 6);
+        Nodes.link(nodeAt(rho, 5), nodeAt(rho, 2));
+
+        assertThat(Nodes.hasCycle(rho)).isTrue();
+        assertThat(Nodes.hasCycle(Nodes.circleOf(1, 2, 3))).isTrue();
+        assertThat(Nodes.hasCycle(Nodes.circleOf(1))).isTrue();
+        assertThat(Nodes.hasCycle(Nodes.chainOf(1, 2, 3))).isFalse();
+        assertThat(Nodes.hasCycle(Nodes.create(1))).isFalse();
+        assertThat(Nodes.hasCycle(null)).isFalse();
+    }
+
+    @Test
+    @Order(8)
+    void cycleLengthAndStart() {
+        Node<Integer> rho = Nodes.chainOf(1, 2, 3, 4, 5, 6);
+        Nodes.link(nodeAt(rho, 5), nodeAt(rho, 2));
+        Node<Integer> circle = Nodes.circleOf(1, 2, 3, 4, 5);
+        Node<Integer> chain = Nodes.chainOf(1, 2, 3);
+
+        assertThat(Nodes.cycleLength(rho)).isEqualTo(4);
+        assertThat(Nodes.cycleStart(rho)).isSameAs(nodeAt(rho, 2));
+        assertThat(Nodes.cycleLength(circle)).isEqualTo(5);
+        assertThat(Nodes.cycleStart(circle)).isSameAs(circle);
+        assertThat(Nodes.cycleLength(chain)).isZero();
+        assertThat(Nodes.cycleStart(chain)).isNull();
+        assertThat(Nodes.cycleLength(null)).isZero();
+    }
+
+    @Test
+    @Order(9)
+    void cycleLengthOfLongRho() {
+        Integer[] elements = new Integer[10_000];
+        Arrays.fill(elements, 0);
+        Node<Integer> rho = Nodes.chainOf(elements);
+        Nodes.link(nodeAt(rho, 9_999), nodeAt(rho, 3_333));
+
+        assertThat(Nodes.cycleLength(rho)).isEqualTo(6_667);
+        assertThat(Nodes.cycleStart(rho)).isSameAs(nodeAt(rho, 3_333));
+    }
+
+    @Test
+    @Order(10)
+    void reverse() {
+        Node<Integer> chain = Nodes.chainOf(1, 2, 3, 4);
+        Node<Integer> last = nodeAt(chain, 3);
+
+        Node<Integer> reversed = Nodes.reverse(chain);
+
+        assertThat(reversed).isSameAs(last);
+        assertThat(elementsOf(reversed)).containsExactly(4, 3, 2, 1);
+        assertThat(getNodeNext(chain)).isNull();
+        assertThat(Nodes.reverse((Node<Integer>) null)).isNull();
+    }
+
+    @Test
+    @Order(11)
+    void split() {
+        Node<Integer> odd = Nodes.chainOf(1, 2, 3, 4, 5);
+        Node<Integer> even = Nodes.chainOf(1, 2, 3, 4);
+        Node<Integer> single = Nodes.create(1);
+
+        assertThat(elementsOf(Nodes.split(odd))).containsExactly(4, 5);
+        assertThat(elementsOf(odd)).containsExactly(1, 2, 3);
+        assertThat(elementsOf(Nodes.split(even))).containsExactly(3, 4);
+        assertThat(elementsOf(even)).containsExactly(1, 2);
+        assertThat(Nodes.split(single)).isNull();
+        assertThat(getNodeNext(single)).isNull();
+    }
+
+    @Test
+    @Order(12)
+    void merge() {
+        Node<Integer> merged = Nodes.merge(Nodes.chainOf(1, 4, 6), Nodes.chainOf(2, 3, 7, 8), null);
+
+        assertThat(elementsOf(merged)).containsExactly(1, 2, 3, 4, 6, 7, 8);
+        assertThat(elementsOf(Nodes.merge(null, Nodes.chainOf(1, 2), null))).containsExactly(1, 2);
+    }
+
+    @Test
+    @Order(13)
+    void sort() {
+        Random random = new Random(42);
+        Integer[] elements = new Integer[1_000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = random.nextInt(100);
+        }
+        List<Integer> expected = new ArrayList<>(Arrays.asList(elements));
+        expected.sort(Comparator.reverseOrder());
+
+        Node<Integer> sorted = Nodes.sort(Nodes.chainOf(elements), Comparator.reverseOrder());
+
+        assertThat(elementsOf(sorted)).isEqualTo(expected);
+        assertThat(elementsOf(Nodes.sort(Nodes.chainOf(3, 1, 2), null))).containsExactly(1, 2, 3);
+        assertThat(elementsOf(Nodes.sort(Nodes.create(1), null))).containsExactly(1);
+    }
+
+    @Test
+    @Order(14)
+    void sortIsStable() {
+        Node<String> sorted = Nodes.sort(Nodes.chainOf("bb", "a", "cc", "b", "aa", "c"),
+                Comparator.comparingInt(String::length));
+
+        assertThat(elementsOf(sorted)).containsExactly("a", "b", "c", "bb", "cc", "aa");
+    }
+
+    private <T> Node<T> nodeAt(Node<T> head, int index) {
+        Node<T> node = head;
+        for (int i = 0; i < index; i++) {
+            node = getNodeNext(node);
+        }
+        return node;
+    }
+
+    private <T> List<T> elementsOf(Node<T> head) {
+        List<T> elements = new ArrayList<>();
+        for (Node<T> node = head; node != null; node = getNodeNext(node)) {
+            elements.add(getNodeElement(node));
+        }
+        return elements;
+    }
+
     @SneakyThrows
     @SuppressWarnings("unchecked")
     private Node<Integer> createNodeOf(int element) {
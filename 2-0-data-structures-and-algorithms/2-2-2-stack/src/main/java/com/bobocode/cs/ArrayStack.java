@@ -0,0 +1,148 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link ArrayStack} is a stack implementation that is based on an array. The top of the stack is the last used cell
+ * of the array, so {@link ArrayStack#push(Object)} and {@link ArrayStack#pop()} only move an index and do not
+ * allocate anything until the array is full. Then it grows twice, which makes push O(1) amortised.
+ * <p>
+ * The array does not shrink by default, so a stack that churns between being empty and deep keeps its capacity.
+ * A stack created with {@code shrink} set to {@code true} halves the array when it is only a quarter full, but never
+ * below its initial capacity. Growing at full and shrinking at a quarter leaves a gap, so alternating push and pop at
+ * the boundary does not resize the array every time.
+ *
+ * @param <T> generic type parameter
+ */
+public class ArrayStack<T> implements Stack<T> {
+
+    private static final int DEFAULT_CAPACITY = 5;
+
+    private final int initCapacity;
+    private final boolean shrink;
+    private Object[] data;
+    private int size = 0;
+
+    /**
+     * This constructor creates an instance of {@link ArrayStack} with a default capacity of an array inside that
+     * never shrinks. A default size of inner array is 5;
+     */
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * This constructor creates an instance of {@link ArrayStack} with a specific capacity of an array inside.
+     *
+     * @param initCapacity the initial capacity of the stack
+     * @param shrink       {@code true} if the array should shrink when the stack gets small
+     * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
+     */
+    public ArrayStack(int initCapacity, boolean shrink) {
+        if (initCapacity <= 0) throw new IllegalArgumentException();
+
+        this.initCapacity = initCapacity;
+        this.shrink = shrink;
+        this.data = new Object[initCapacity];
+    }
+
+    /**
+     * This method creates a stack of provided elements. The last element is on top of the stack.
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new stack of elements that were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> ArrayStack<T> of(T... elements) {
+        final var stack = new ArrayStack<T>(Math.max(elements.length, 1), false);
+        for (int i = 0; i < elements.length; i++) {
+            stack.data[i] = requireNonNull(elements[i]);
+        }
+        stack.size = elements.length;
+        return stack;
+    }
+
+    /**
+     * The method pushes an element onto the top of this stack.
+     *
+     * @param element elements to add
+     */
+    @Override
+    public void push(T element) {
+        requireNonNull(element);
+        if (size == data.length) {
+            resize(data.length * 2);
+        }
+        data[size++] = element;
+    }
+
+    /**
+     * This method removes the object at the top of this stack
+     * and returns that object as the value of this function.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    public T pop() {
+        final T element = peek();
+        data[--size] = null;
+        if (shrink && size <= data.length / 4 && data.length / 2 >= initCapacity) {
+            resize(data.length / 2);
+        }
+        return element;
+    }
+
+    /**
+     * This method returns the object at the top of this stack without removing it.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return (T) data[size - 1];
+    }
+
+    /**
+     * Returns the number of elements in the stack
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the length of an inner array.
+     *
+     * @return the number of elements the stack can hold without resizing
+     */
+    public int capacity() {
+        return data.length;
+    }
+
+    private void resize(int capacity) {
+        data = Arrays.copyOf(data, capacity);
+    }
+}
@@ -0,0 +1,134 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Arrays;
+
+/**
+ * {@link IntStack} is a LIFO stack of primitive {@code int} values. It works like {@link ArrayStack}, but stores
+ * elements in a {@code int[]} array, so pushing a value neither allocates a node nor boxes it into an
+ * {@link Integer}. It does not implement {@link Stack}, because that would bring the boxing back.
+ */
+public class IntStack {
+
+    private static final int DEFAULT_CAPACITY = 5;
+
+    private final int initCapacity;
+    private final boolean shrink;
+    private int[] data;
+    private int size = 0;
+
+    /**
+     * This constructor creates an instance of {@link IntStack} with a default capacity of an array inside that never
+     * shrinks. A default size of inner array is 5;
+     */
+    public IntStack() {
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * This constructor creates an instance of {@link IntStack} with a specific capacity of an array inside.
+     *
+     * @param initCapacity the initial capacity of the stack
+     * @param shrink       {@code true} if the array should halve when the stack is only a quarter full
+     * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
+     */
+    public IntStack(int initCapacity, boolean shrink) {
+        if (initCapacity <= 0) throw new IllegalArgumentException();
+
+        this.initCapacity = initCapacity;
+        this.shrink = shrink;
+        this.data = new int[initCapacity];
+    }
+
+    /**
+     * This method creates a stack of provided elements. The last element is on top of the stack.
+     *
+     * @param elements elements to add
+     * @return a new stack of elements that were passed as method parameters
+     */
+    public static IntStack of(int... elements) {
+        final var stack = new IntStack(Math.max(elements.length, 1), false);
+        System.arraycopy(elements, 0, stack.data, 0, elements.length);
+        stack.size = elements.length;
+        return stack;
+    }
+
+    /**
+     * The method pushes an element onto the top of this stack.
+     *
+     * @param element elements to add
+     */
+    public void push(int element) {
+        if (size == data.length) {
+            resize(data.length * 2);
+        }
+        data[size++] = element;
+    }
+
+    /**
+     * This method removes the value at the top of this stack and returns it.
+     *
+     * @return The value at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    public int pop() {
+        final int element = peek();
+        size--;
+        if (shrink && size <= data.length / 4 && data.length / 2 >= initCapacity) {
+            resize(data.length / 2);
+        }
+        return element;
+    }
+
+    /**
+     * This method returns the value at the top of this stack without removing it.
+     *
+     * @return The value at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return data[size - 1];
+    }
+
+    /**
+     * Returns the number of elements in the stack
+     *
+     * @return number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all elements from the stack. The capacity does not change.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the length of an inner array.
+     *
+     * @return the number of elements the stack can hold without resizing
+     */
+    public int capacity() {
+        return data.length;
+    }
+
+    private void resize(int capacity) {
+        data = Arrays.copyOf(data, capacity);
+    }
+}
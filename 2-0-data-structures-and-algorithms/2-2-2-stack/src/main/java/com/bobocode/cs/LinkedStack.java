@@ -4,8 +4,6 @@ import com.bobocode.cs.exception.EmptyStackException;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 
-import java.util.stream.Stream;
-
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -20,6 +18,26 @@ public class LinkedStack<T> implements Stack<T> {
 
     private Node<T> head;
     private int size = 0;
+    private final NodePool<Node<T>> pool;
+
+    /**
+     * Creates an empty stack that allocates a new node for every added element.
+     */
+    public LinkedStack() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty stack that keeps up to provided number of popped nodes in a {@link NodePool} and reuses them
+     * for pushed elements, instead of allocating new ones.
+     *
+     * @param poolCapacity the maximum number of pooled nodes, zero disables pooling
+     * @throws IllegalArgumentException if the pool capacity is negative
+     */
+    public LinkedStack(int poolCapacity) {
+        if (poolCapacity < 0) throw new IllegalArgumentException("Invalid pool capacity " + poolCapacity);
+        this.pool = new NodePool<>(poolCapacity);
+    }
 
     /**
      * This method creates a stack of provided elements
@@ -31,7 +49,12 @@ public class LinkedStack<T> implements Stack<T> {
     @SafeVarargs
     public static <T> LinkedStack<T> of(T... elements) {
         final var stack = new LinkedStack<T>();
-        Stream.of(elements).forEach(stack::push);
+        Node<T> top = null;
+        for (T element : elements) {
+            top = new Node<>(requireNonNull(element), top);
+        }
+        stack.head = top;
+        stack.size = elements.length;
         return stack;
     }
 
@@ -44,10 +67,8 @@ public class LinkedStack<T> implements Stack<T> {
     @Override
     public void push(T element) {
         requireNonNull(element);
-        final var newNode = new Node<>(element);
-        if (head != null) {
-            newNode.next = head;
-        }
+        final var newNode = nodeOf(element);
+        newNode.next = head;
         head = newNode;
         size++;
     }
@@ -64,12 +85,28 @@ public class LinkedStack<T> implements Stack<T> {
         if (head == null) {
             throw  new EmptyStackException();
         }
-        final T currentValue = head.value;
-        head = head.next;
+        final var popped = head;
+        final T currentValue = popped.value;
+        head = popped.next;
+        recycle(popped);
         size--;
         return currentValue;
     }
 
+    /**
+     * This method returns the object at the top of this stack without removing it.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    public T peek() {
+        if (head == null) {
+            throw new EmptyStackException();
+        }
+        return head.value;
+    }
+
     /**
      * Returns the number of elements in the stack
      *
@@ -90,6 +127,17 @@ public class LinkedStack<T> implements Stack<T> {
         return head == null;
     }
 
+    private Node<T> nodeOf(T element) {
+        return pool.acquire(element, Node::new, (node, value) -> node.value = value);
+    }
+
+    private void recycle(Node<T> node) {
+        pool.release(node, released -> {
+            released.value = null;
+            released.next = null;
+        });
+    }
+
     @NoArgsConstructor
     @AllArgsConstructor
     public static class Node<T> {
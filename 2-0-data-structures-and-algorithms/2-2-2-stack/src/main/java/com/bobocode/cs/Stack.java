@@ -15,6 +15,17 @@ public interface Stack<T> {
 
     T pop();
 
+    /**
+     * Returns the top element without removing it. The operation was added after the interface was published, so
+     * the default implementation does not support it, and existing implementations keep compiling.
+     *
+     * @return the top element
+     * @throws UnsupportedOperationException if the implementation does not support it
+     */
+    default T peek() {
+        throw new UnsupportedOperationException("peek");
+    }
+
     int size();
 
     boolean isEmpty();
@@ -0,0 +1,182 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link TreiberStack} is a thread-safe lock-free {@link Stack} for any number of threads. Like {@link LinkedStack} it
+ * is based on singly linked nodes, but {@code head} is changed only by compare-and-set: a push links a new node to the
+ * current head and swings the head to it, a pop swings the head to its successor. Nodes are never reused, so a head
+ * that was read earlier can not come back and cause the ABA problem.
+ * <p>
+ * All threads compete for the single {@code head}, so under contention most compare-and-sets fail. Instead of
+ * retrying right away, a thread that lost the race backs off to the elimination array. A push offers its node in a
+ * random slot and waits a little, and a pop takes a node offered in a random slot. A push and a pop that meet there
+ * cancel each other out without touching {@code head}, which is a valid result since a push immediately followed by
+ * a pop leaves the stack unchanged. If nobody comes, the push withdraws the offer and both retry on {@code head}.
+ * So the busier the stack gets, the more operations complete in parallel in different slots.
+ * <p>
+ * {@link TreiberStack#pop()} and {@link TreiberStack#peek()} throw {@link EmptyStackException} when they observe an
+ * empty stack, the same way {@link LinkedStack} does. {@link TreiberStack#size()} is kept in a {@link LongAdder}, so
+ * it is an estimate while the stack is modified concurrently.
+ *
+ * @param <T> generic type parameter
+ */
+public class TreiberStack<T> implements Stack<T> {
+    private static final int OFFER_SPINS = 64;
+    private static final VarHandle HEAD;
+
+    static {
+        try {
+            HEAD = MethodHandles.lookup().findVarHandle(TreiberStack.class, "head", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<T> head;
+    private final AtomicReferenceArray<Node<T>> eliminationSlots;
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * Creates an empty stack with an elimination slot for every two available processors.
+     */
+    public TreiberStack() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    /**
+     * Creates an empty stack with provided number of elimination slots.
+     *
+     * @param eliminationSlots the size of the elimination array, 0 turns elimination off
+     * @throws IllegalArgumentException if the number of slots is negative
+     */
+    public TreiberStack(int eliminationSlots) {
+        if (eliminationSlots < 0) throw new IllegalArgumentException("Invalid elimination slots " + eliminationSlots);
+
+        this.eliminationSlots = new AtomicReferenceArray<>(eliminationSlots);
+    }
+
+    /**
+     * The method pushes an element onto the top of this stack.
+     *
+     * @param element elements to add
+     */
+    @Override
+    public void push(T element) {
+        final var newNode = new Node<T>(requireNonNull(element));
+        while (true) {
+            final var currentHead = head;
+            newNode.next = currentHead;
+            if (HEAD.compareAndSet(this, currentHead, newNode) || offerToPop(newNode)) {
+                size.increment();
+                return;
+            }
+        }
+    }
+
+    /**
+     * This method removes the object at the top of this stack
+     * and returns that object as the value of this function.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    public T pop() {
+        while (true) {
+            final var currentHead = head;
+            if (currentHead == null) {
+                throw new EmptyStackException();
+            }
+            final var popped = HEAD.compareAndSet(this, currentHead, currentHead.next) ? currentHead : takeFromPush();
+            if (popped != null) {
+                size.decrement();
+                return popped.value;
+            }
+        }
+    }
+
+    /**
+     * This method returns the object at the top of this stack without removing it.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    public T peek() {
+        final var currentHead = head;
+        if (currentHead == null) {
+            throw new EmptyStackException();
+        }
+        return currentHead.value;
+    }
+
+    /**
+     * Returns the number of elements in the stack. It is exact only if the stack is not modified concurrently.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return (int) Math.max(0, Math.min(size.sum(), Integer.MAX_VALUE));
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return head == null;
+    }
+
+    /**
+     * Offers a node in a random elimination slot and waits for a pop to take it.
+     *
+     * @return {@code true} if a pop took the node, {@code false} if the offer was withdrawn
+     */
+    private boolean offerToPop(Node<T> node) {
+        final int length = eliminationSlots.length();
+        if (length == 0) return false;
+
+        final int slot = ThreadLocalRandom.current().nextInt(length);
+        if (!eliminationSlots.compareAndSet(slot, null, node)) return false;
+        for (int i = 0; i < OFFER_SPINS; i++) {
+            if (eliminationSlots.get(slot) != node) return true;
+            Thread.onSpinWait();
+        }
+        return !eliminationSlots.compareAndSet(slot, node, null);
+    }
+
+    /**
+     * Takes a node offered by a push in a random elimination slot.
+     *
+     * @return the node or null if there was no offer
+     */
+    private Node<T> takeFromPush() {
+        final int length = eliminationSlots.length();
+        if (length == 0) return null;
+
+        final int slot = ThreadLocalRandom.current().nextInt(length);
+        final var offered = eliminationSlots.get(slot);
+        return offered != null && eliminationSlots.compareAndSet(slot, offered, null) ? offered : null;
+    }
+
+    private static final class Node<T> {
+        private final T value;
+        private Node<T> next;
+
+        private Node(T value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class ArrayStackTest {
+
+    private final Stack<Integer> stack = new ArrayStack<>();
+
+    @Test
+    void pushAndPopInLifoOrder() {
+        stack.push(1);
+        stack.push(2);
+        stack.push(3);
+
+        assertThat(stack.size()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(2);
+        assertThat(stack.pop()).isEqualTo(1);
+        assertThat(stack.isEmpty()).isTrue();
+    }
+
+    @Test
+    void ofPutsLastElementOnTop() {
+        ArrayStack<Integer> ofStack = ArrayStack.of(1, 2, 3);
+
+        assertThat(ofStack.size()).isEqualTo(3);
+        assertThat(ofStack.peek()).isEqualTo(3);
+        ofStack.push(4);
+        assertThat(ofStack.pop()).isEqualTo(4);
+        assertThat(ofStack.pop()).isEqualTo(3);
+        assertThat(ArrayStack.of().isEmpty()).isTrue();
+    }
+
+    @Test
+    void peekDoesNotRemoveElement() {
+        stack.push(7);
+
+        assertThat(stack.peek()).isEqualTo(7);
+        assertThat(stack.size()).isEqualTo(1);
+    }
+
+    @Test
+    void emptyStackThrowsException() {
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::pop);
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::peek);
+    }
+
+    @Test
+    void nullElementsAreRejected() {
+        assertThatNullPointerException().isThrownBy(() -> stack.push(null));
+        assertThatNullPointerException().isThrownBy(() -> ArrayStack.of(1, null));
+        assertThat(stack.isEmpty()).isTrue();
+    }
+
+    @Test
+    void capacityMustBePositive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ArrayStack<>(0, false));
+    }
+
+    @Test
+    void capacityGrowsAndStaysWithoutShrink() {
+        ArrayStack<Integer> growingStack = new ArrayStack<>(2, false);
+        for (int i = 0; i < 100; i++) {
+            growingStack.push(i);
+        }
+        int capacity = growingStack.capacity();
+        while (!growingStack.isEmpty()) {
+            growingStack.pop();
+        }
+
+        assertThat(capacity).isGreaterThanOrEqualTo(100);
+        assertThat(growingStack.capacity()).isEqualTo(capacity);
+    }
+
+    @Test
+    void capacityShrinksToInitialCapacity() {
+        ArrayStack<Integer> shrinkingStack = new ArrayStack<>(4, true);
+        for (int i = 0; i < 1000; i++) {
+            shrinkingStack.push(i);
+        }
+        for (int i = 999; i >= 1; i--) {
+            assertThat(shrinkingStack.pop()).isEqualTo(i);
+            assertThat(shrinkingStack.capacity()).isLessThanOrEqualTo(Math.max(4, 4 * shrinkingStack.size()));
+        }
+
+        assertThat(shrinkingStack.capacity()).isEqualTo(4);
+        assertThat(shrinkingStack.pop()).isEqualTo(0);
+        assertThat(shrinkingStack.capacity()).isEqualTo(4);
+    }
+
+    @Test
+    void randomPushesAndPopsMatchArrayDeque() {
+        ArrayStack<Integer> shrinkingStack = new ArrayStack<>(1, true);
+        Deque<Integer> expected = new ArrayDeque<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            if (expected.isEmpty() || random.nextBoolean()) {
+                shrinkingStack.push(i);
+                expected.push(i);
+            } else {
+                assertThat(shrinkingStack.pop()).isEqualTo(expected.pop());
+            }
+            assertThat(shrinkingStack.size()).isEqualTo(expected.size());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class IntStackTest {
+
+    private final IntStack stack = new IntStack();
+
+    @Test
+    void pushAndPopInLifoOrder() {
+        stack.push(1);
+        stack.push(2);
+        stack.push(3);
+
+        assertThat(stack.size()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(2);
+        assertThat(stack.pop()).isEqualTo(1);
+        assertThat(stack.isEmpty()).isTrue();
+    }
+
+    @Test
+    void ofPutsLastElementOnTop() {
+        IntStack ofStack = IntStack.of(1, 2, 3);
+
+        assertThat(ofStack.size()).isEqualTo(3);
+        assertThat(ofStack.peek()).isEqualTo(3);
+        ofStack.push(4);
+        assertThat(ofStack.pop()).isEqualTo(4);
+        assertThat(IntStack.of().isEmpty()).isTrue();
+    }
+
+    @Test
+    void emptyStackThrowsException() {
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::pop);
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::peek);
+        assertThatIllegalArgumentException().isThrownBy(() -> new IntStack(0, true));
+    }
+
+    @Test
+    void clearKeepsCapacity() {
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+        }
+        int capacity = stack.capacity();
+
+        stack.clear();
+
+        assertThat(stack.isEmpty()).isTrue();
+        assertThat(stack.capacity()).isEqualTo(capacity);
+    }
+
+    @Test
+    void capacityShrinksToInitialCapacity() {
+        IntStack shrinkingStack = new IntStack(3, true);
+        for (int i = 0; i < 1000; i++) {
+            shrinkingStack.push(i);
+        }
+        for (int i = 999; i >= 0; i--) {
+            assertThat(shrinkingStack.pop()).isEqualTo(i);
+        }
+
+        assertThat(shrinkingStack.capacity()).isEqualTo(3);
+    }
+}
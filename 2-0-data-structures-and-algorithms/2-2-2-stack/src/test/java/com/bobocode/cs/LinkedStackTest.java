@@ -292,6 +292,52 @@ class LinkedStackTest {
         assertThat(stackEmpty).isEqualTo(true);
     }
 
+    @Test
+    @Order(24)
+    @DisplayName("Method peek() throws exception when stack is empty")
+    void peekWhenStackEmpty() {
+        assertThrows(EmptyStackException.class, () -> intStack.peek());
+    }
+
+    @Test
+    @Order(25)
+    @DisplayName("Method peek() retrieves top element without removing it")
+    void peek() {
+        fillTestStack(55, 17, 66, 234);
+
+        int topElement = intStack.peek();
+
+        assertThat(topElement).isEqualTo(234);
+        assertThat(intStack.size()).isEqualTo(4);
+        assertThat(intStack.pop()).isEqualTo(234);
+    }
+
+    @Test
+    @Order(26)
+    @DisplayName("Pooled stack reuses popped nodes for pushed elements")
+    @SneakyThrows
+    void pushReusesPoppedNode() {
+        intStack = new LinkedStack<>(4);
+        intStack.push(1);
+        intStack.push(2);
+        Object poppedNode = getHeadField().get(intStack);
+
+        intStack.pop();
+        intStack.push(3);
+
+        assertThat(getHeadField().get(intStack)).isSameAs(poppedNode);
+        assertThat(intStack.pop()).isEqualTo(3);
+        assertThat(intStack.pop()).isEqualTo(1);
+        assertThat(intStack.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Order(27)
+    @DisplayName("Negative pool capacity is rejected")
+    void negativePoolCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new LinkedStack<Integer>(-1));
+    }
+
     private Class<?> getInnerClass() {
         return Arrays.stream(LinkedStack.class.getDeclaredClasses())
                 .filter(Class::isMemberClass)
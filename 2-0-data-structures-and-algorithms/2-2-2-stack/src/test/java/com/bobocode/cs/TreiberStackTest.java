@@ -0,0 +1,108 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class TreiberStackTest {
+    private static final int THREADS = 4;
+
+    private final Stack<Integer> stack = new TreiberStack<>();
+
+    @Test
+    void pushAndPopInLifoOrder() {
+        stack.push(1);
+        stack.push(2);
+        stack.push(3);
+
+        assertThat(stack.size()).isEqualTo(3);
+        assertThat(stack.peek()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(2);
+        assertThat(stack.pop()).isEqualTo(1);
+        assertThat(stack.isEmpty()).isTrue();
+        assertThat(stack.size()).isEqualTo(0);
+    }
+
+    @Test
+    void emptyStackThrowsException() {
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::pop);
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::peek);
+
+        stack.push(1);
+        stack.pop();
+
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::pop);
+    }
+
+    @Test
+    void nullElementsAreRejected() {
+        assertThatNullPointerException().isThrownBy(() -> stack.push(null));
+        assertThat(stack.isEmpty()).isTrue();
+    }
+
+    @Test
+    void eliminationSlotsMustNotBeNegative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TreiberStack<>(-1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 4})
+    void concurrentPushesAndPopsLoseNoElements(int eliminationSlots) throws Exception {
+        int elementsPerThread = 50_000;
+        Stack<Integer> sharedStack = new TreiberStack<>(eliminationSlots);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<List<Integer>>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            workers.add(executor.submit(() -> {
+                start.await();
+                List<Integer> popped = new ArrayList<>();
+                for (int i = 0; i < elementsPerThread; i++) {
+                    sharedStack.push(thread * elementsPerThread + i);
+                    if (i % 2 == 1) {
+                        popped.add(sharedStack.pop());
+                    }
+                }
+                return popped;
+            }));
+        }
+        start.countDown();
+
+        boolean[] seen = new boolean[THREADS * elementsPerThread];
+        for (var worker : workers) {
+            for (int element : worker.get(30, TimeUnit.SECONDS)) {
+                assertThat(seen[element]).isFalse();
+                seen[element] = true;
+            }
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(sharedStack.size()).isEqualTo(THREADS * elementsPerThread / 2);
+        while (!sharedStack.isEmpty()) {
+            int element = sharedStack.pop();
+            assertThat(seen[element]).isFalse();
+            seen[element] = true;
+        }
+        for (boolean elementSeen : seen) {
+            assertThat(elementSeen).isTrue();
+        }
+    }
+}
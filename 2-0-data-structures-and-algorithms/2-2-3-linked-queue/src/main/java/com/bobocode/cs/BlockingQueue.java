@@ -0,0 +1,39 @@
+package com.bobocode.cs;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BlockingQueue is a {@link Queue} that can be shared between threads and lets them wait instead of busy polling:
+ * a consumer calling {@link BlockingQueue#take()} waits until an element is available, and a producer calling
+ * {@link BlockingQueue#put(Object)} waits until there is free space in a bounded queue.
+ * {@link Queue#poll()} keeps its non-blocking contract and returns {@code null} if the queue is empty.
+ *
+ * @param <T> a generic parameter
+ */
+public interface BlockingQueue<T> extends Queue<T> {
+    /**
+     * Adds an element to the end of the queue, waiting for free space if the queue is full.
+     *
+     * @param element the element to add
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    void put(T element) throws InterruptedException;
+
+    /**
+     * Retrieves and removes queue head, waiting until an element becomes available.
+     *
+     * @return an element that was retrieved from the head
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    T take() throws InterruptedException;
+
+    /**
+     * Retrieves and removes queue head, waiting up to the specified time for an element to become available.
+     *
+     * @param timeout how long to wait before giving up, in units of {@code unit}
+     * @param unit    a time unit of the timeout
+     * @return an element that was retrieved from the head or null if the time elapsed before it became available
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    T poll(long timeout, TimeUnit unit) throws InterruptedException;
+}
@@ -0,0 +1,208 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * {@link DaryHeapPriorityQueue} is a {@link Queue} that retrieves elements in the order defined by a
+ * {@link Comparator}, smallest first, instead of the insertion order. Elements are stored in an array that forms a
+ * d-ary min-heap: the children of the element at index {@code i} are at indices {@code d * i + 1 .. d * i + d}, and
+ * none of them is smaller than their parent.
+ * <p>
+ * {@link DaryHeapPriorityQueue#add(Object)} moves a new element up at most log<sub>d</sub>(n) levels, while
+ * {@link DaryHeapPriorityQueue#poll()} moves the last element down from the root, comparing up to {@code d} children
+ * on each level. A larger arity makes the heap shallower and keeps more children of a node next to each other in the
+ * array, which makes adds cheaper while polls do more comparisons per level, so the best arity depends on the mix of
+ * operations. Arity 2 is a classic binary heap.
+ * <p>
+ * {@link DaryHeapPriorityQueue#heapify(Object[], Comparator, int)} builds a heap from existing elements in O(n),
+ * which is faster than adding them one by one in O(n log n).
+ *
+ * @param <T> a generic parameter
+ */
+public class DaryHeapPriorityQueue<T> implements Queue<T> {
+    private static final int DEFAULT_ARITY = 4;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Comparator<? super T> comparator;
+    private final int arity;
+    private final int arityShift; // log2 of the arity if it is a power of two, otherwise -1
+    private Object[] heap;
+    private int size;
+
+    /**
+     * Creates an empty 4-ary heap.
+     *
+     * @param comparator an order of elements, the smallest element is retrieved first
+     */
+    public DaryHeapPriorityQueue(Comparator<? super T> comparator) {
+        this(comparator, DEFAULT_ARITY);
+    }
+
+    /**
+     * Creates an empty heap with provided arity.
+     *
+     * @param comparator an order of elements, the smallest element is retrieved first
+     * @param arity      the number of children of each node
+     * @throws IllegalArgumentException if the arity is less than 2
+     */
+    public DaryHeapPriorityQueue(Comparator<? super T> comparator, int arity) {
+        this(comparator, arity, new Object[DEFAULT_CAPACITY], 0);
+    }
+
+    private DaryHeapPriorityQueue(Comparator<? super T> comparator, int arity, Object[] heap, int size) {
+        if (arity < 2) throw new IllegalArgumentException("Arity must be at least 2, but was " + arity);
+
+        this.comparator = Objects.requireNonNull(comparator);
+        this.arity = arity;
+        this.arityShift = Integer.bitCount(arity) == 1 ? Integer.numberOfTrailingZeros(arity) : -1;
+        this.heap = heap;
+        this.size = size;
+    }
+
+    /**
+     * Creates a heap that contains provided elements. The heap is built bottom-up in O(n) time. The array is copied,
+     * so it can be reused by the caller.
+     *
+     * @param elements   elements of the heap
+     * @param comparator an order of elements, the smallest element is retrieved first
+     * @param arity      the number of children of each node
+     * @param <T>        a generic parameter
+     * @return a new heap with all provided elements
+     * @throws NullPointerException     if any of the elements is null
+     * @throws IllegalArgumentException if the arity is less than 2
+     */
+    public static <T> DaryHeapPriorityQueue<T> heapify(T[] elements, Comparator<? super T> comparator, int arity) {
+        final var heap = Arrays.copyOf(elements, Math.max(elements.length, DEFAULT_CAPACITY), Object[].class);
+        for (int i = 0; i < elements.length; i++) {
+            Objects.requireNonNull(heap[i]);
+        }
+        final var queue = new DaryHeapPriorityQueue<T>(comparator, arity, heap, elements.length);
+        if (queue.size > 1) {
+            for (int i = queue.parent(queue.size - 1); i >= 0; i--) {
+                queue.siftDown(i, queue.elementAt(i));
+            }
+        }
+        return queue;
+    }
+
+    /**
+     * Adds an element to the heap.
+     *
+     * @param element the element to add
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length + (heap.length >> 1));
+        }
+        siftUp(size++, element);
+    }
+
+    /**
+     * Retrieves and removes the smallest element.
+     *
+     * @return the smallest element or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        if (size == 0) return null;
+
+        final var smallest = elementAt(0);
+        final var last = elementAt(--size);
+        heap[size] = null;
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return smallest;
+    }
+
+    /**
+     * Retrieves the smallest element without removing it.
+     *
+     * @return the smallest element or null if queue is empty
+     */
+    public T peek() {
+        return size == 0 ? null : elementAt(0);
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of children of each node.
+     *
+     * @return the arity of the heap
+     */
+    public int arity() {
+        return arity;
+    }
+
+    /**
+     * Moves parents of the hole at {@code index} down while they are greater than the element, and puts the element
+     * into the hole where it stops.
+     */
+    private void siftUp(int index, T element) {
+        while (index > 0) {
+            final int parentIndex = parent(index);
+            final var parent = elementAt(parentIndex);
+            if (comparator.compare(element, parent) >= 0) break;
+            heap[index] = parent;
+            index = parentIndex;
+        }
+        heap[index] = element;
+    }
+
+    /**
+     * Moves the smallest children of the hole at {@code index} up while they are smaller than the element, and puts
+     * the element into the hole where it stops.
+     */
+    private void siftDown(int index, T element) {
+        int firstChild;
+        while ((firstChild = arity * index + 1) < size) {
+            final int lastChild = Math.min(firstChild + arity, size);
+            int smallestIndex = firstChild;
+            var smallest = elementAt(firstChild);
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                final var candidate = elementAt(child);
+                if (comparator.compare(candidate, smallest) < 0) {
+                    smallestIndex = child;
+                    smallest = candidate;
+                }
+            }
+            if (comparator.compare(smallest, element) >= 0) break;
+            heap[index] = smallest;
+            index = smallestIndex;
+        }
+        heap[index] = element;
+    }
+
+    private int parent(int index) {
+        return arityShift >= 0 ? (index - 1) >> arityShift : (index - 1) / arity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) heap[index];
+    }
+}
@@ -0,0 +1,240 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link IndexedDaryHeap} is a d-ary min-heap of integer keys {@code 0..capacity-1}, ordered by priorities assigned to
+ * them. Unlike {@link DaryHeapPriorityQueue}, it remembers the position of every key in the heap, so the priority of a
+ * key that is already in the heap can be lowered in O(log<sub>d</sub>(n)) with
+ * {@link IndexedDaryHeap#decreaseKey(int, Object)}, instead of adding a duplicate entry and skipping stale ones later.
+ * This is what scheduling by the nearest deadline and graph algorithms like Dijkstra's shortest paths need when a
+ * deadline or a distance improves.
+ * <p>
+ * The heap is backed by three arrays: {@code heap} holds keys in heap order, {@code positions} maps a key to its index
+ * in {@code heap} or -1 if the key is absent, and {@code priorities} maps a key to its priority.
+ *
+ * @param <P> a type of priorities
+ */
+public class IndexedDaryHeap<P> {
+    private static final int DEFAULT_ARITY = 4;
+
+    private final Comparator<? super P> comparator;
+    private final int arity;
+    private final int arityShift; // log2 of the arity if it is a power of two, otherwise -1
+    private final int[] heap;
+    private final int[] positions;
+    private final Object[] priorities;
+    private int size;
+
+    /**
+     * Creates an empty 4-ary heap for keys {@code 0..capacity-1}.
+     *
+     * @param capacity   the number of keys
+     * @param comparator an order of priorities, the key with the smallest priority is retrieved first
+     */
+    public IndexedDaryHeap(int capacity, Comparator<? super P> comparator) {
+        this(capacity, comparator, DEFAULT_ARITY);
+    }
+
+    /**
+     * Creates an empty heap with provided arity for keys {@code 0..capacity-1}.
+     *
+     * @param capacity   the number of keys
+     * @param comparator an order of priorities, the key with the smallest priority is retrieved first
+     * @param arity      the number of children of each node
+     * @throws IllegalArgumentException if the capacity is negative or the arity is less than 2
+     */
+    public IndexedDaryHeap(int capacity, Comparator<? super P> comparator, int arity) {
+        if (capacity < 0) throw new IllegalArgumentException("Invalid capacity " + capacity);
+        if (arity < 2) throw new IllegalArgumentException("Arity must be at least 2, but was " + arity);
+
+        this.comparator = Objects.requireNonNull(comparator);
+        this.arity = arity;
+        this.arityShift = Integer.bitCount(arity) == 1 ? Integer.numberOfTrailingZeros(arity) : -1;
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.priorities = new Object[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Adds a key with provided priority to the heap.
+     *
+     * @param key      the key to add
+     * @param priority the priority of the key
+     * @throws IllegalArgumentException  if the key is already in the heap
+     * @throws IndexOutOfBoundsException if the key is out of {@code 0..capacity-1}
+     * @throws NullPointerException      if the priority is null
+     */
+    public void insert(int key, P priority) {
+        Objects.checkIndex(key, positions.length);
+        Objects.requireNonNull(priority);
+        if (positions[key] >= 0) throw new IllegalArgumentException("Key " + key + " is already in the heap");
+
+        priorities[key] = priority;
+        siftUp(size++, key);
+    }
+
+    /**
+     * Lowers the priority of a key that is in the heap.
+     *
+     * @param key      the key to update
+     * @param priority the new priority of the key
+     * @throws IllegalArgumentException  if the new priority is greater than the current one
+     * @throws NoSuchElementException    if the key is not in the heap
+     * @throws IndexOutOfBoundsException if the key is out of {@code 0..capacity-1}
+     * @throws NullPointerException      if the priority is null
+     */
+    public void decreaseKey(int key, P priority) {
+        Objects.requireNonNull(priority);
+        final int position = positionOf(key);
+        if (comparator.compare(priority, priorityAt(key)) > 0) {
+            throw new IllegalArgumentException("Priority of key " + key + " can not be increased");
+        }
+        priorities[key] = priority;
+        siftUp(position, key);
+    }
+
+    /**
+     * Adds a key with provided priority if it is not in the heap, or lowers its priority if the new one is smaller.
+     *
+     * @param key      the key to add or update
+     * @param priority the priority of the key
+     * @return {@code true} if the key was added or its priority was lowered, {@code false} otherwise
+     */
+    public boolean insertOrDecrease(int key, P priority) {
+        if (!contains(key)) {
+            insert(key, priority);
+            return true;
+        }
+        if (comparator.compare(priority, priorityAt(key)) >= 0) return false;
+        decreaseKey(key, priority);
+        return true;
+    }
+
+    /**
+     * Retrieves and removes the key with the smallest priority.
+     *
+     * @return the key with the smallest priority
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int pollKey() {
+        final int smallest = peekKey();
+        final int last = heap[--size];
+        positions[smallest] = -1;
+        priorities[smallest] = null;
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return smallest;
+    }
+
+    /**
+     * Retrieves the key with the smallest priority without removing it.
+     *
+     * @return the key with the smallest priority
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int peekKey() {
+        if (size == 0) throw new NoSuchElementException("Heap is empty");
+        return heap[0];
+    }
+
+    /**
+     * Returns the priority of a key that is in the heap.
+     *
+     * @param key the key
+     * @return the priority of the key
+     * @throws NoSuchElementException    if the key is not in the heap
+     * @throws IndexOutOfBoundsException if the key is out of {@code 0..capacity-1}
+     */
+    public P priorityOf(int key) {
+        positionOf(key);
+        return priorityAt(key);
+    }
+
+    /**
+     * Checks if a key is in the heap.
+     *
+     * @param key the key
+     * @return {@code true} if the key is in the heap, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if the key is out of {@code 0..capacity-1}
+     */
+    public boolean contains(int key) {
+        return positions[Objects.checkIndex(key, positions.length)] >= 0;
+    }
+
+    /**
+     * Returns the number of keys in the heap.
+     *
+     * @return the size of the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the heap is empty.
+     *
+     * @return {@code true} if the heap is empty, returns {@code false} if it's not
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int positionOf(int key) {
+        final int position = positions[Objects.checkIndex(key, positions.length)];
+        if (position < 0) throw new NoSuchElementException("Key " + key + " is not in the heap");
+        return position;
+    }
+
+    private void siftUp(int index, int key) {
+        final var priority = priorityAt(key);
+        while (index > 0) {
+            final int parentIndex = parent(index);
+            final int parent = heap[parentIndex];
+            if (comparator.compare(priority, priorityAt(parent)) >= 0) break;
+            place(index, parent);
+            index = parentIndex;
+        }
+        place(index, key);
+    }
+
+    private void siftDown(int index, int key) {
+        final var priority = priorityAt(key);
+        int firstChild;
+        while ((firstChild = arity * index + 1) < size) {
+            final int lastChild = Math.min(firstChild + arity, size);
+            int smallestIndex = firstChild;
+            var smallest = priorityAt(heap[firstChild]);
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                final var candidate = priorityAt(heap[child]);
+                if (comparator.compare(candidate, smallest) < 0) {
+                    smallestIndex = child;
+                    smallest = candidate;
+                }
+            }
+            if (comparator.compare(smallest, priority) >= 0) break;
+            place(index, heap[smallestIndex]);
+            index = smallestIndex;
+        }
+        place(index, key);
+    }
+
+    private int parent(int index) {
+        return arityShift >= 0 ? (index - 1) >> arityShift : (index - 1) / arity;
+    }
+
+    private void place(int index, int key) {
+        heap[index] = key;
+        positions[key] = index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private P priorityAt(int key) {
+        return (P) priorities[key];
+    }
+}
@@ -0,0 +1,275 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link LinkedBlockingQueue} is an optionally bounded FIFO {@link BlockingQueue} of singly linked nodes. Like
+ * {@link LinkedQueue} it keeps references to the head and tail, but the head is a dummy node, so producers only touch
+ * the tail and consumers only touch the head. Each end is guarded by its own {@link ReentrantLock}, and the size is
+ * an {@link AtomicInteger} shared between them, so a producer and a consumer never wait for each other's lock.
+ * <p>
+ * Waiting threads are parked on a {@link Condition} instead of spinning or holding a monitor. Conditions park via
+ * {@link java.util.concurrent.locks.LockSupport}, so a virtual thread waiting in {@link LinkedBlockingQueue#take()}
+ * releases its carrier thread, while the same thread waiting inside a {@code synchronized} block pins it.
+ * <p>
+ * A waiting consumer is signalled only when the queue becomes non-empty, and a waiting producer only when a full
+ * queue gets free space. A woken thread wakes up the next one if there is still something for it to do, which avoids
+ * waking up all waiting threads at once.
+ *
+ * @param <T> a generic parameter
+ */
+public class LinkedBlockingQueue<T> implements BlockingQueue<T> {
+    private final int capacity;
+    private final AtomicInteger count = new AtomicInteger();
+
+    private Node<T> head;
+    private Node<T> tail;
+
+    private final ReentrantLock takeLock = new ReentrantLock();
+    private final Condition notEmpty = takeLock.newCondition();
+    private final ReentrantLock putLock = new ReentrantLock();
+    private final Condition notFull = putLock.newCondition();
+
+    /**
+     * Creates an unbounded queue. Its producers never wait.
+     */
+    public LinkedBlockingQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a queue that holds at most provided number of elements.
+     *
+     * @param capacity the maximum number of elements
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public LinkedBlockingQueue(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Invalid capacity " + capacity);
+
+        this.capacity = capacity;
+        this.head = this.tail = new Node<>(null);
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if the queue is full
+     * @throws NullPointerException  if the element is null
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) throw new IllegalStateException("Queue is full");
+    }
+
+    /**
+     * Adds an element to the end of the queue if there is free space, without waiting.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        if (count.get() == capacity) return false;
+
+        final int previousCount;
+        putLock.lock();
+        try {
+            if (count.get() == capacity) return false;
+            enqueue(new Node<>(element));
+            previousCount = count.getAndIncrement();
+            if (previousCount + 1 < capacity) notFull.signal();
+        } finally {
+            putLock.unlock();
+        }
+        if (previousCount == 0) signalNotEmpty();
+        return true;
+    }
+
+    /**
+     * Adds an element to the end of the queue, waiting for free space if the queue is full.
+     *
+     * @param element the element to add
+     * @throws InterruptedException if the thread is interrupted while waiting
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public void put(T element) throws InterruptedException {
+        Objects.requireNonNull(element);
+        final var newNode = new Node<>(element);
+
+        final int previousCount;
+        putLock.lockInterruptibly();
+        try {
+            while (count.get() == capacity) {
+                notFull.await();
+            }
+            enqueue(newNode);
+            previousCount = count.getAndIncrement();
+            if (previousCount + 1 < capacity) notFull.signal();
+        } finally {
+            putLock.unlock();
+        }
+        if (previousCount == 0) signalNotEmpty();
+    }
+
+    /**
+     * Retrieves and removes queue head without waiting.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        if (count.get() == 0) return null;
+
+        final T element;
+        final int previousCount;
+        takeLock.lock();
+        try {
+            if (count.get() == 0) return null;
+            element = dequeue();
+            previousCount = count.getAndDecrement();
+            if (previousCount > 1) notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+        if (previousCount == capacity) signalNotFull();
+        return element;
+    }
+
+    /**
+     * Retrieves and removes queue head, waiting until an element becomes available.
+     *
+     * @return an element that was retrieved from the head
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    @Override
+    public T take() throws InterruptedException {
+        final T element;
+        final int previousCount;
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                notEmpty.await();
+            }
+            element = dequeue();
+            previousCount = count.getAndDecrement();
+            if (previousCount > 1) notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+        if (previousCount == capacity) signalNotFull();
+        return element;
+    }
+
+    /**
+     * Retrieves and removes queue head, waiting up to the specified time for an element to become available.
+     *
+     * @param timeout how long to wait before giving up, in units of {@code unit}
+     * @param unit    a time unit of the timeout
+     * @return an element that was retrieved from the head or null if the time elapsed before it became available
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        final T element;
+        final int previousCount;
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                if (nanos <= 0L) return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            element = dequeue();
+            previousCount = count.getAndDecrement();
+            if (previousCount > 1) notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+        if (previousCount == capacity) signalNotFull();
+        return element;
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return count.get();
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return count.get() == 0;
+    }
+
+    /**
+     * Returns the number of elements the queue can accept without waiting.
+     *
+     * @return the capacity of the queue minus its size
+     */
+    public int remainingCapacity() {
+        return capacity - count.get();
+    }
+
+    /**
+     * Links a node after the tail. Must be called while holding {@code putLock}.
+     */
+    private void enqueue(Node<T> node) {
+        tail = tail.next = node;
+    }
+
+    /**
+     * Unlinks the node after the dummy head and makes it the new dummy. Must be called while holding
+     * {@code takeLock} when the queue is not empty.
+     */
+    private T dequeue() {
+        final var oldHead = head;
+        final var first = oldHead.next;
+        oldHead.next = oldHead; // a self link makes the unlinked node garbage regardless of the nodes behind it
+        head = first;
+        final var element = first.element;
+        first.element = null;
+        return element;
+    }
+
+    private void signalNotEmpty() {
+        takeLock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    private void signalNotFull() {
+        putLock.lock();
+        try {
+            notFull.signal();
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    static final class Node<T> {
+        T element;
+        Node<T> next;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+}
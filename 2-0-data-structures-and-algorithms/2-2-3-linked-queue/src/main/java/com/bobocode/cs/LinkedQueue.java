@@ -17,6 +17,26 @@ public class LinkedQueue<T> implements Queue<T> {
     private Node<T> head;
     private Node<T> tail;
     private int size;
+    private final NodePool<Node<T>> pool;
+
+    /**
+     * Creates an empty queue that allocates a new node for every added element.
+     */
+    public LinkedQueue() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty queue that keeps up to provided number of polled nodes in a {@link NodePool} and reuses them
+     * for added elements, instead of allocating new ones.
+     *
+     * @param poolCapacity the maximum number of pooled nodes, zero disables pooling
+     * @throws IllegalArgumentException if the pool capacity is negative
+     */
+    public LinkedQueue(int poolCapacity) {
+        if (poolCapacity < 0) throw new IllegalArgumentException("Invalid pool capacity " + poolCapacity);
+        this.pool = new NodePool<>(poolCapacity);
+    }
 
     /**
      * Adds an element to the end of the queue.
@@ -24,7 +44,7 @@ public class LinkedQueue<T> implements Queue<T> {
      * @param element the element to add
      */
     public void add(T element) {
-        final var newNode = new Node<>(element);
+        final var newNode = nodeOf(element);
         if (head == null) {
             head = tail = newNode;
         } else {
@@ -42,9 +62,11 @@ public class LinkedQueue<T> implements Queue<T> {
     public T poll() {
         if (head == null) return null;
 
-        final var headValue = head.value;
-        head = head.next;
+        final var polled = head;
+        final var headValue = polled.value;
+        head = polled.next;
         if (head == null) tail = null;
+        recycle(polled);
         size--;
 
         return headValue;
@@ -68,6 +90,17 @@ public class LinkedQueue<T> implements Queue<T> {
         return size == 0;
     }
 
+    private Node<T> nodeOf(T element) {
+        return pool.acquire(element, Node::new, (node, value) -> node.value = value);
+    }
+
+    private void recycle(Node<T> node) {
+        pool.release(node, released -> {
+            released.value = null;
+            released.next = null;
+        });
+    }
+
     @NoArgsConstructor
     @AllArgsConstructor
     public static class Node<T> {
@@ -0,0 +1,143 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link LockFreeLinkedQueue} is a thread-safe lock-free implementation of a FIFO {@link Queue} for any number of
+ * producers and consumers. It is the Michael-Scott queue: nodes are singly linked, {@code head} always points to a
+ * dummy node whose successor holds the first element, and both {@code head} and {@code tail} are moved by
+ * compare-and-set only.
+ * <p>
+ * {@link LockFreeLinkedQueue#add(Object)} links a new node to the last node with a single compare-and-set of its empty
+ * {@code next} reference. {@code tail} may lag one node behind, in that case any thread that notices it moves it
+ * forward before going on, so no thread ever waits for another one.
+ * <p>
+ * {@link LockFreeLinkedQueue#size()} is kept in a {@link LongAdder}, so counting does not make producers and consumers
+ * contend on a single variable. The size is therefore an estimate while the queue is modified concurrently, and
+ * {@link LockFreeLinkedQueue#isEmpty()} checks the nodes instead. The queue does not support {@code null} elements,
+ * since {@code null} is returned by {@link LockFreeLinkedQueue#poll()} on an empty queue.
+ *
+ * @param <T> a generic parameter
+ */
+public class LockFreeLinkedQueue<T> implements Queue<T> {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            final var lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(LockFreeLinkedQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(LockFreeLinkedQueue.class, "tail", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<T> head;
+    private volatile Node<T> tail;
+    private final LongAdder size = new LongAdder();
+
+    public LockFreeLinkedQueue() {
+        head = tail = new Node<>(null);
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        final var newNode = new Node<>(element);
+        while (true) {
+            final var last = tail;
+            final var next = last.next;
+            if (last != tail) continue;
+
+            if (next == null) {
+                if (last.casNext(newNode)) {
+                    TAIL.compareAndSet(this, last, newNode);
+                    size.increment();
+                    return;
+                }
+            } else {
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        while (true) {
+            final var first = head;
+            final var last = tail;
+            final var next = first.next;
+            if (first != head) continue;
+
+            if (next == null) return null;
+            if (first == last) {
+                TAIL.compareAndSet(this, last, next);
+                continue;
+            }
+            final var value = next.value;
+            if (HEAD.compareAndSet(this, first, next)) {
+                next.value = null;
+                size.decrement();
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Returns an estimated size of the queue. It is exact when there are no concurrent modifications.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return (int) Math.max(0, Math.min(size.sum(), Integer.MAX_VALUE));
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    static class Node<T> {
+        private static final VarHandle NEXT;
+
+        static {
+            try {
+                NEXT = MethodHandles.lookup().findVarHandle(Node.class, "next", Node.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private T value;
+        private volatile Node<T> next;
+
+        Node(T value) {
+            this.value = value;
+        }
+
+        boolean casNext(Node<T> newNode) {
+            return NEXT.compareAndSet(this, null, newNode);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link RingBufferQueue} is a bounded FIFO {@link Queue} that keeps its elements in a preallocated array. The
+ * capacity is rounded up to a power of two, so a slot index is a bit mask of an ever-growing counter, and neither
+ * {@link RingBufferQueue#offer(Object)} nor {@link RingBufferQueue#poll()} allocates.
+ * <p>
+ * The queue is safe for one producer thread and one consumer thread working concurrently. The producer owns
+ * {@code tail} and the consumer owns {@code head}: each of them publishes its counter with a release store after
+ * writing or clearing the slots, and reads the other counter only when its cached copy says the queue is full or
+ * empty. More producers or consumers need external synchronization.
+ * <p>
+ * {@link RingBufferQueue#offerBatch(Object[], int, int)} and {@link RingBufferQueue#drainTo(Consumer, int)} move many
+ * elements with a single publication of the counter, so a consumer woken up once can process a whole batch.
+ *
+ * @param <T> a generic parameter
+ */
+public class RingBufferQueue<T> implements Queue<T> {
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            final var lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(RingBufferQueue.class, "head", long.class);
+            TAIL = lookup.findVarHandle(RingBufferQueue.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] buffer;
+    private final int mask;
+
+    private volatile long head;
+    private long tailCache;
+    private volatile long tail;
+    private long headCache;
+
+    /**
+     * Creates an empty queue that holds at least provided number of elements.
+     *
+     * @param capacity the minimum capacity, it is rounded up to a power of two
+     * @throws IllegalArgumentException if the capacity is not positive or exceeds 2^30
+     */
+    public RingBufferQueue(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) throw new IllegalArgumentException("Invalid capacity " + capacity);
+
+        final int powerOfTwo = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new Object[powerOfTwo];
+        this.mask = powerOfTwo - 1;
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if the queue is full
+     * @throws NullPointerException  if the element is null
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) throw new IllegalStateException("Queue is full");
+    }
+
+    /**
+     * Adds an element to the end of the queue if there is free space.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        final long currentTail = tail;
+        if (currentTail - headCache > mask) {
+            headCache = head;
+            if (currentTail - headCache > mask) return false;
+        }
+        buffer[(int) currentTail & mask] = element;
+        TAIL.setRelease(this, currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Adds all provided elements of the array to the end of the queue while there is free space.
+     *
+     * @param elements an array of elements
+     * @return the number of elements that were added
+     */
+    public int offerBatch(T[] elements) {
+        return offerBatch(elements, 0, elements.length);
+    }
+
+    /**
+     * Adds up to {@code length} elements of the array starting at {@code offset} to the end of the queue while there
+     * is free space. Added elements become visible to the consumer all at once.
+     *
+     * @param elements an array of elements
+     * @param offset   an index of the first element to add
+     * @param length   the maximum number of elements to add
+     * @return the number of elements that were added
+     * @throws NullPointerException if any of the elements that fit into the queue is null
+     */
+    public int offerBatch(T[] elements, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, elements.length);
+        final long currentTail = tail;
+        long free = buffer.length - (currentTail - headCache);
+        if (free < length) {
+            headCache = head;
+            free = buffer.length - (currentTail - headCache);
+        }
+        final int added = (int) Math.min(free, length);
+        for (int i = 0; i < added; i++) {
+            Objects.requireNonNull(elements[offset + i]);
+        }
+        for (int i = 0; i < added; i++) {
+            buffer[(int) (currentTail + i) & mask] = elements[offset + i];
+        }
+        TAIL.setRelease(this, currentTail + added);
+        return added;
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        final long currentHead = head;
+        if (currentHead >= tailCache) {
+            tailCache = tail;
+            if (currentHead >= tailCache) return null;
+        }
+        final int index = (int) currentHead & mask;
+        final var element = (T) buffer[index];
+        buffer[index] = null;
+        HEAD.setRelease(this, currentHead + 1);
+        return element;
+    }
+
+    /**
+     * Retrieves and removes up to {@code maxElements} elements from the head of the queue, passing each of them to the
+     * consumer in FIFO order. The freed slots become visible to the producer all at once. If the consumer throws an
+     * exception, the elements passed to it, including the failed one, are removed, and the rest stay in the queue.
+     *
+     * @param consumer    a consumer of elements
+     * @param maxElements the maximum number of elements to retrieve
+     * @return the number of elements that were retrieved
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(Consumer<? super T> consumer, int maxElements) {
+        Objects.requireNonNull(consumer);
+        if (maxElements < 0) throw new IllegalArgumentException("Negative max elements " + maxElements);
+
+        final long currentHead = head;
+        long available = tailCache - currentHead;
+        if (available < maxElements) {
+            tailCache = tail;
+            available = tailCache - currentHead;
+        }
+        final int limit = (int) Math.min(available, maxElements);
+        int drained = 0;
+        try {
+            while (drained < limit) {
+                final int index = (int) (currentHead + drained) & mask;
+                final var element = (T) buffer[index];
+                buffer[index] = null;
+                drained++;
+                consumer.accept(element);
+            }
+        } finally {
+            HEAD.setRelease(this, currentHead + drained);
+        }
+        return drained;
+    }
+
+    /**
+     * Returns a size of the queue. It is exact when called by the producer or the consumer, other threads may observe
+     * a stale value.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        final long currentHead = head;
+        final long currentTail = tail;
+        return (int) Math.max(0, Math.min(currentTail - currentHead, buffer.length));
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return head >= tail;
+    }
+
+    /**
+     * Returns the maximum number of elements the queue can hold.
+     *
+     * @return the capacity of the queue
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+}
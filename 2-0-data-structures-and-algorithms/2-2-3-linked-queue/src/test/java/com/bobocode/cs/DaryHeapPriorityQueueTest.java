@@ -0,0 +1,136 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class DaryHeapPriorityQueueTest {
+
+    @Test
+    void pollReturnsSmallestElementFirst() {
+        DaryHeapPriorityQueue<Integer> queue = new DaryHeapPriorityQueue<>(Comparator.naturalOrder());
+        queue.add(5);
+        queue.add(1);
+        queue.add(4);
+        queue.add(1);
+        queue.add(3);
+
+        assertThat(queue.size()).isEqualTo(5);
+        assertThat(pollAll(queue)).containsExactly(1, 1, 3, 4, 5);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void comparatorDefinesTheOrder() {
+        DaryHeapPriorityQueue<String> queue = new DaryHeapPriorityQueue<>(Comparator.comparing(String::length), 2);
+        queue.add("ccc");
+        queue.add("a");
+        queue.add("bb");
+
+        assertThat(queue.peek()).isEqualTo("a");
+        assertThat(queue.poll()).isEqualTo("a");
+        assertThat(queue.peek()).isEqualTo("bb");
+        assertThat(queue.size()).isEqualTo(2);
+    }
+
+    @Test
+    void arityMustBeAtLeastTwo() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new DaryHeapPriorityQueue<>(Comparator.naturalOrder(), 1));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> DaryHeapPriorityQueue.heapify(new Integer[]{1}, Comparator.naturalOrder(), 0));
+    }
+
+    @Test
+    void nullElementsAreRejected() {
+        DaryHeapPriorityQueue<Integer> queue = new DaryHeapPriorityQueue<>(Comparator.naturalOrder());
+
+        assertThatNullPointerException().isThrownBy(() -> queue.add(null));
+        assertThatNullPointerException()
+                .isThrownBy(() -> DaryHeapPriorityQueue.heapify(new Integer[]{1, null}, Comparator.naturalOrder(), 2));
+    }
+
+    @Test
+    void peekOnEmptyQueueReturnsNull() {
+        assertThat(new DaryHeapPriorityQueue<Integer>(Comparator.naturalOrder()).peek()).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4, 8})
+    void heapifyBuildsValidHeap(int arity) {
+        Integer[] elements = randomElements(1000);
+
+        DaryHeapPriorityQueue<Integer> queue = DaryHeapPriorityQueue.heapify(elements, Comparator.naturalOrder(), arity);
+
+        assertThat(queue.size()).isEqualTo(elements.length);
+        assertThat(queue.arity()).isEqualTo(arity);
+        assertThat(pollAll(queue)).isSorted().containsExactlyInAnyOrder(elements);
+    }
+
+    @Test
+    void heapifyDoesNotModifyTheArray() {
+        Integer[] elements = {3, 2, 1};
+
+        DaryHeapPriorityQueue<Integer> queue = DaryHeapPriorityQueue.heapify(elements, Comparator.naturalOrder(), 2);
+        queue.add(0);
+
+        assertThat(elements).containsExactly(3, 2, 1);
+        assertThat(pollAll(queue)).containsExactly(0, 1, 2, 3);
+        assertThat(DaryHeapPriorityQueue.heapify(new Integer[0], Comparator.naturalOrder(), 2).isEmpty()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4, 8})
+    void mixedAddsAndPollsMatchJdkPriorityQueue(int arity) {
+        DaryHeapPriorityQueue<Integer> queue = new DaryHeapPriorityQueue<>(Comparator.naturalOrder(), arity);
+        PriorityQueue<Integer> expected = new PriorityQueue<>();
+        Random random = new Random(arity);
+
+        for (int i = 0; i < 10_000; i++) {
+            if (random.nextInt(3) < 2) {
+                int element = random.nextInt(500);
+                queue.add(element);
+                expected.add(element);
+            } else {
+                assertThat(queue.poll()).isEqualTo(expected.poll());
+            }
+            assertThat(queue.size()).isEqualTo(expected.size());
+        }
+        assertThat(pollAll(queue)).isEqualTo(pollAll(expected));
+    }
+
+    private static Integer[] randomElements(int size) {
+        Random random = new Random(42);
+        Integer[] elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = random.nextInt(size);
+        }
+        return elements;
+    }
+
+    private static List<Integer> pollAll(DaryHeapPriorityQueue<Integer> queue) {
+        List<Integer> polled = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            polled.add(queue.poll());
+        }
+        return polled;
+    }
+
+    private static List<Integer> pollAll(PriorityQueue<Integer> queue) {
+        List<Integer> polled = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            polled.add(queue.poll());
+        }
+        return polled;
+    }
+}
@@ -0,0 +1,139 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class IndexedDaryHeapTest {
+
+    private final IndexedDaryHeap<Integer> heap = new IndexedDaryHeap<>(8, Comparator.naturalOrder());
+
+    @Test
+    void pollKeyReturnsKeyWithSmallestPriority() {
+        heap.insert(0, 30);
+        heap.insert(1, 10);
+        heap.insert(2, 20);
+
+        assertThat(heap.size()).isEqualTo(3);
+        assertThat(heap.peekKey()).isEqualTo(1);
+        assertThat(heap.pollKey()).isEqualTo(1);
+        assertThat(heap.pollKey()).isEqualTo(2);
+        assertThat(heap.pollKey()).isEqualTo(0);
+        assertThat(heap.isEmpty()).isTrue();
+    }
+
+    @Test
+    void decreaseKeyMovesKeyUp() {
+        heap.insert(0, 30);
+        heap.insert(1, 10);
+        heap.insert(2, 20);
+
+        heap.decreaseKey(0, 5);
+
+        assertThat(heap.priorityOf(0)).isEqualTo(5);
+        assertThat(heap.pollKey()).isEqualTo(0);
+        assertThat(heap.pollKey()).isEqualTo(1);
+    }
+
+    @Test
+    void decreaseKeyRejectsGreaterPriority() {
+        heap.insert(0, 10);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> heap.decreaseKey(0, 11));
+        assertThat(heap.priorityOf(0)).isEqualTo(10);
+    }
+
+    @Test
+    void insertOrDecreaseKeepsSmallerPriority() {
+        assertThat(heap.insertOrDecrease(3, 10)).isTrue();
+        assertThat(heap.insertOrDecrease(3, 12)).isFalse();
+        assertThat(heap.insertOrDecrease(3, 7)).isTrue();
+
+        assertThat(heap.priorityOf(3)).isEqualTo(7);
+        assertThat(heap.size()).isEqualTo(1);
+    }
+
+    @Test
+    void keysAreTrackedAcrossPolls() {
+        heap.insert(4, 1);
+
+        assertThat(heap.contains(4)).isTrue();
+        assertThatIllegalArgumentException().isThrownBy(() -> heap.insert(4, 2));
+
+        heap.pollKey();
+
+        assertThat(heap.contains(4)).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> heap.priorityOf(4));
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> heap.decreaseKey(4, 0));
+        heap.insert(4, 2);
+        assertThat(heap.priorityOf(4)).isEqualTo(2);
+    }
+
+    @Test
+    void invalidKeysAndEmptyHeapAreRejected() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> heap.insert(8, 1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> heap.contains(-1));
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(heap::pollKey);
+        assertThatIllegalArgumentException().isThrownBy(() -> new IndexedDaryHeap<>(8, Comparator.naturalOrder(), 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4, 8})
+    void shortestPathsOnRandomGraphMatchBruteForce(int arity) {
+        int vertices = 200;
+        Random random = new Random(arity);
+        int[][] weights = new int[vertices][vertices];
+        for (int[] row : weights) {
+            for (int v = 0; v < vertices; v++) {
+                row[v] = random.nextInt(4) == 0 ? 1 + random.nextInt(100) : -1;
+            }
+        }
+
+        long[] expected = bellmanFord(weights);
+        long[] actual = dijkstra(weights, new IndexedDaryHeap<>(vertices, Comparator.naturalOrder(), arity));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private static long[] dijkstra(int[][] weights, IndexedDaryHeap<Long> heap) {
+        long[] distances = new long[weights.length];
+        Arrays.fill(distances, Long.MAX_VALUE);
+        distances[0] = 0;
+        heap.insert(0, 0L);
+        while (!heap.isEmpty()) {
+            int u = heap.pollKey();
+            for (int v = 0; v < weights.length; v++) {
+                if (weights[u][v] >= 0 && distances[u] + weights[u][v] < distances[v]) {
+                    distances[v] = distances[u] + weights[u][v];
+                    heap.insertOrDecrease(v, distances[v]);
+                }
+            }
+        }
+        return distances;
+    }
+
+    private static long[] bellmanFord(int[][] weights) {
+        long[] distances = new long[weights.length];
+        Arrays.fill(distances, Long.MAX_VALUE);
+        distances[0] = 0;
+        for (int round = 1; round < weights.length; round++) {
+            for (int u = 0; u < weights.length; u++) {
+                for (int v = 0; v < weights.length; v++) {
+                    if (distances[u] != Long.MAX_VALUE && weights[u][v] >= 0) {
+                        distances[v] = Math.min(distances[v], distances[u] + weights[u][v]);
+                    }
+                }
+            }
+        }
+        return distances;
+    }
+}
@@ -0,0 +1,167 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class LinkedBlockingQueueTest {
+    private static final int PRODUCERS = 4;
+    private static final int CONSUMERS = 4;
+
+    private final LinkedBlockingQueue<Integer> queue = new LinkedBlockingQueue<>(2);
+
+    @Test
+    void addAndPollInFifoOrder() throws InterruptedException {
+        LinkedBlockingQueue<Integer> unbounded = new LinkedBlockingQueue<>();
+        unbounded.add(1);
+        unbounded.put(2);
+        unbounded.add(3);
+
+        assertThat(unbounded.size()).isEqualTo(3);
+        assertThat(unbounded.poll()).isEqualTo(1);
+        assertThat(unbounded.take()).isEqualTo(2);
+        assertThat(unbounded.poll(0, TimeUnit.SECONDS)).isEqualTo(3);
+        assertThat(unbounded.poll()).isNull();
+        assertThat(unbounded.isEmpty()).isTrue();
+    }
+
+    @Test
+    void capacityMustBePositive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new LinkedBlockingQueue<>(0));
+    }
+
+    @Test
+    void offerReturnsFalseWhenFull() {
+        assertThat(queue.offer(1)).isTrue();
+        assertThat(queue.offer(2)).isTrue();
+
+        assertThat(queue.offer(3)).isFalse();
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> queue.add(3));
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.remainingCapacity()).isEqualTo(0);
+    }
+
+    @Test
+    void nullElementsAreRejected() {
+        assertThatNullPointerException().isThrownBy(() -> queue.add(null));
+        assertThatNullPointerException().isThrownBy(() -> queue.put(null));
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void pollWithTimeoutReturnsNullWhenNothingArrives() throws InterruptedException {
+        long start = System.nanoTime();
+
+        assertThat(queue.poll(50, TimeUnit.MILLISECONDS)).isNull();
+
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    void takeWaitsUntilElementIsPut() throws Exception {
+        CompletableFuture<Integer> consumer = CompletableFuture.supplyAsync(this::takeUninterruptibly);
+
+        assertThatExceptionOfType(TimeoutException.class).isThrownBy(() -> consumer.get(50, TimeUnit.MILLISECONDS));
+        queue.put(42);
+
+        assertThat(consumer.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void putWaitsUntilThereIsFreeSpace() throws Exception {
+        queue.put(1);
+        queue.put(2);
+        CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+            try {
+                queue.put(3);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThatExceptionOfType(TimeoutException.class).isThrownBy(() -> producer.get(50, TimeUnit.MILLISECONDS));
+        assertThat(queue.take()).isEqualTo(1);
+
+        producer.get(5, TimeUnit.SECONDS);
+        assertThat(queue.take()).isEqualTo(2);
+        assertThat(queue.take()).isEqualTo(3);
+    }
+
+    @Test
+    void takeThrowsExceptionWhenInterrupted() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Integer> consumer = executor.submit(queue::take);
+
+        Thread.sleep(50);
+        executor.shutdownNow();
+
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(consumer).isDone();
+        assertThatExceptionOfType(Exception.class).isThrownBy(consumer::get)
+                .withCauseInstanceOf(InterruptedException.class);
+    }
+
+    @Test
+    void concurrentProducersAndConsumersHandOffEveryElementOnce() throws Exception {
+        int elementsPerProducer = 20_000;
+        int elementsPerConsumer = PRODUCERS * elementsPerProducer / CONSUMERS;
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + CONSUMERS);
+        LinkedBlockingQueue<Integer> sharedQueue = new LinkedBlockingQueue<>(64);
+
+        List<Future<List<Integer>>> consumers = new ArrayList<>();
+        for (int c = 0; c < CONSUMERS; c++) {
+            consumers.add(executor.submit(() -> {
+                List<Integer> taken = new ArrayList<>();
+                for (int i = 0; i < elementsPerConsumer; i++) {
+                    taken.add(sharedQueue.take());
+                }
+                return taken;
+            }));
+        }
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            executor.submit(() -> {
+                for (int i = 0; i < elementsPerProducer; i++) {
+                    sharedQueue.put(producer * elementsPerProducer + i);
+                }
+                return null;
+            });
+        }
+
+        boolean[] seen = new boolean[PRODUCERS * elementsPerProducer];
+        for (var consumer : consumers) {
+            for (int element : consumer.get(30, TimeUnit.SECONDS)) {
+                assertThat(seen[element]).isFalse();
+                seen[element] = true;
+            }
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+
+        for (boolean elementSeen : seen) {
+            assertThat(elementSeen).isTrue();
+        }
+        assertThat(sharedQueue.isEmpty()).isTrue();
+    }
+
+    private Integer takeUninterruptibly() {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
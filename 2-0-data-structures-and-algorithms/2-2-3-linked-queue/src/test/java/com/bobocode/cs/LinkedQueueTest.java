@@ -220,6 +220,25 @@ public class LinkedQueueTest {
         assertThat(isEmpty).isEqualTo(false);
     }
 
+    @Test
+    @Order(16)
+    @SneakyThrows
+    void addReusesPolledNode() {
+        integerQueue = new LinkedQueue<>(4);
+        integerQueue.add(1);
+        integerQueue.add(2);
+        Object polledNode = getAccessibleFieldByPredicate(integerQueue, HEAD_FIELD).get(integerQueue);
+
+        integerQueue.poll();
+        integerQueue.add(3);
+
+        assertThat(getAccessibleFieldByPredicate(integerQueue, TAIL_FIELD).get(integerQueue)).isSameAs(polledNode);
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(3);
+        assertThat(integerQueue.poll()).isNull();
+        assertThat(getInternalSize()).isEqualTo(0);
+    }
+
 
     private Class<?> getInnerStaticNodeClass() {
         return Arrays.stream(integerQueue.getClass().getDeclaredClasses())
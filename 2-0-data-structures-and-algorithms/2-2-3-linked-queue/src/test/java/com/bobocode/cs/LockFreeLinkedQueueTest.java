@@ -0,0 +1,122 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class LockFreeLinkedQueueTest {
+    private static final int PRODUCERS = 4;
+    private static final int CONSUMERS = 4;
+
+    private final Queue<Integer> queue = new LockFreeLinkedQueue<>();
+
+    @Test
+    void addAndPollInFifoOrder() {
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.size()).isEqualTo(0);
+    }
+
+    @Test
+    void isEmpty() {
+        assertThat(queue.isEmpty()).isTrue();
+
+        queue.add(1);
+        assertThat(queue.isEmpty()).isFalse();
+
+        queue.poll();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void addThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> queue.add(null));
+    }
+
+    @Test
+    void queueIsReusableAfterBeingDrained() {
+        for (int round = 0; round < 3; round++) {
+            queue.add(round);
+            assertThat(queue.poll()).isEqualTo(round);
+            assertThat(queue.poll()).isNull();
+        }
+    }
+
+    @Test
+    void concurrentProducersAndConsumersHandOffEveryElementOnce() throws Exception {
+        int elementsPerProducer = 50_000;
+        int totalElements = PRODUCERS * elementsPerProducer;
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + CONSUMERS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger consumed = new AtomicInteger();
+
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < elementsPerProducer; i++) {
+                    queue.add(producer * elementsPerProducer + i);
+                }
+                return null;
+            });
+        }
+        List<Future<List<Integer>>> consumers = new ArrayList<>();
+        for (int c = 0; c < CONSUMERS; c++) {
+            consumers.add(executor.submit(() -> {
+                start.await();
+                List<Integer> polled = new ArrayList<>();
+                while (consumed.get() < totalElements) {
+                    Integer element = queue.poll();
+                    if (element != null) {
+                        polled.add(element);
+                        consumed.incrementAndGet();
+                    } else {
+                        Thread.onSpinWait();
+                    }
+                }
+                return polled;
+            }));
+        }
+        start.countDown();
+
+        boolean[] seen = new boolean[totalElements];
+        for (var consumer : consumers) {
+            List<Integer> polled = consumer.get(30, TimeUnit.SECONDS);
+            int[] lastByProducer = new int[PRODUCERS];
+            Arrays.fill(lastByProducer, -1);
+            for (int element : polled) {
+                assertThat(seen[element]).isFalse();
+                seen[element] = true;
+                int producer = element / elementsPerProducer;
+                assertThat(element).isGreaterThan(lastByProducer[producer]);
+                lastByProducer[producer] = element;
+            }
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+
+        for (boolean elementSeen : seen) {
+            assertThat(elementSeen).isTrue();
+        }
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.size()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,150 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class RingBufferQueueTest {
+
+    private final RingBufferQueue<Integer> queue = new RingBufferQueue<>(4);
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertThat(new RingBufferQueue<>(1).capacity()).isEqualTo(1);
+        assertThat(new RingBufferQueue<>(5).capacity()).isEqualTo(8);
+        assertThat(new RingBufferQueue<>(8).capacity()).isEqualTo(8);
+        assertThatIllegalArgumentException().isThrownBy(() -> new RingBufferQueue<>(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new RingBufferQueue<>((1 << 30) + 1));
+    }
+
+    @Test
+    void addAndPollInFifoOrder() {
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void offerReturnsFalseWhenFull() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(queue.offer(i)).isTrue();
+        }
+
+        assertThat(queue.offer(4)).isFalse();
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> queue.add(4));
+        assertThat(queue.size()).isEqualTo(4);
+    }
+
+    @Test
+    void nullElementsAreRejected() {
+        assertThatNullPointerException().isThrownBy(() -> queue.add(null));
+        assertThatNullPointerException().isThrownBy(() -> queue.offerBatch(new Integer[]{1, null}));
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void indicesWrapAround() {
+        for (int i = 0; i < 100; i++) {
+            queue.add(i);
+            queue.add(-i);
+            assertThat(queue.poll()).isEqualTo(i);
+            assertThat(queue.poll()).isEqualTo(-i);
+        }
+
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void offerBatchAddsWhileThereIsSpace() {
+        queue.add(0);
+
+        int added = queue.offerBatch(new Integer[]{1, 2, 3, 4, 5});
+
+        assertThat(added).isEqualTo(3);
+        assertThat(queue.size()).isEqualTo(4);
+        assertThat(queue.offerBatch(new Integer[]{6})).isEqualTo(0);
+        assertThat(queue.poll()).isEqualTo(0);
+        assertThat(queue.offerBatch(new Integer[]{9, 6, 9}, 1, 1)).isEqualTo(1);
+        assertThat(drainAll()).containsExactly(1, 2, 3, 6);
+    }
+
+    @Test
+    void drainToTakesAtMostMaxElements() {
+        queue.offerBatch(new Integer[]{1, 2, 3, 4});
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(queue.drainTo(drained::add, 3)).isEqualTo(3);
+
+        assertThat(drained).containsExactly(1, 2, 3);
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(queue.drainTo(drained::add, 10)).isEqualTo(1);
+        assertThat(queue.drainTo(drained::add, 10)).isEqualTo(0);
+        assertThat(drained).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    void drainToKeepsRemainingElementsWhenConsumerThrows() {
+        queue.offerBatch(new Integer[]{1, 2, 3, 4});
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> queue.drainTo(element -> {
+            if (element == 2) throw new IllegalStateException();
+        }, 4));
+
+        assertThat(drainAll()).containsExactly(3, 4);
+    }
+
+    @Test
+    void singleProducerAndSingleConsumerHandOffEveryElementInOrder() throws Exception {
+        int elements = 200_000;
+        RingBufferQueue<Integer> spscQueue = new RingBufferQueue<>(1024);
+
+        CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+            Integer[] batch = new Integer[64];
+            int next = 0;
+            while (next < elements) {
+                int length = Math.min(batch.length, elements - next);
+                for (int i = 0; i < length; i++) {
+                    batch[i] = next + i;
+                }
+                int added = spscQueue.offerBatch(batch, 0, length);
+                next += added;
+                if (added == 0) Thread.yield();
+            }
+        });
+        CompletableFuture<Boolean> consumer = CompletableFuture.supplyAsync(() -> {
+            int[] expected = {0};
+            boolean[] inOrder = {true};
+            while (expected[0] < elements) {
+                if (spscQueue.drainTo(element -> inOrder[0] &= element == expected[0]++, 256) == 0) {
+                    Thread.yield();
+                }
+            }
+            return inOrder[0];
+        });
+
+        producer.get(30, TimeUnit.SECONDS);
+        assertThat(consumer.get(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(spscQueue.isEmpty()).isTrue();
+    }
+
+    private List<Integer> drainAll() {
+        List<Integer> drained = new ArrayList<>();
+        queue.drainTo(drained::add, Integer.MAX_VALUE);
+        return drained;
+    }
+}
@@ -0,0 +1,390 @@
+package com.bobocode.cs;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link DoublyLinkedList} is a list implementation that is based on doubly linked generic nodes. Unlike
+ * {@link LinkedList}, every node knows its predecessor, so an index search starts from the nearer end of the list,
+ * both ends are removed in constant time, and a {@link ListIterator} adds and removes elements at its position in
+ * constant time.
+ *
+ * @param <T> generic type parameter
+ */
+public class DoublyLinkedList<T> implements List<T> {
+
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+    private int modCount;
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> DoublyLinkedList<T> of(T... elements) {
+        final var list = new DoublyLinkedList<T>();
+        for (var element : elements) {
+            list.addLast(element);
+        }
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        addLast(element);
+    }
+
+    /**
+     * Adds an element to the beginning of the list. Operation is performed in constant time O(1)
+     *
+     * @param element element to add
+     */
+    public void addFirst(T element) {
+        linkBefore(element, head);
+    }
+
+    /**
+     * Adds an element to the end of the list. Operation is performed in constant time O(1)
+     *
+     * @param element element to add
+     */
+    public void addLast(T element) {
+        linkBefore(element, null);
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. The position is reached from the nearer end of the
+     * list. In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException(index);
+        linkBefore(element, index == size ? null : searchNodeByIndex(index));
+    }
+
+    /**
+     * Changes the value of a list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   a position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        searchNodeByIndex(index).value = element;
+    }
+
+    /**
+     * Retrieves an elements by its position index. The position is reached from the nearer end of the list, so
+     * retrieving an element close to the tail is as fast as close to the head. In case provided index in out of the
+     * list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        return searchNodeByIndex(index).value;
+    }
+
+    private Node<T> searchNodeByIndex(int index) {
+        Node<T> currentNode;
+        if (index < size >> 1) {
+            currentNode = head;
+            for (int i = 0; i < index; i++) {
+                currentNode = currentNode.next;
+            }
+        } else {
+            currentNode = tail;
+            for (int i = size - 1; i > index; i--) {
+                currentNode = currentNode.prev;
+            }
+        }
+        return currentNode;
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getFirst() {
+        if (head == null) throw new NoSuchElementException();
+        return head.value;
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getLast() {
+        if (tail == null) throw new NoSuchElementException();
+        return tail.value;
+    }
+
+    /**
+     * Removes an elements by its position index. The position is reached from the nearer end of the list. In case
+     * provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    public T remove(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        return unlink(searchNodeByIndex(index));
+    }
+
+    /**
+     * Removes the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return deleted element
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    public T removeFirst() {
+        if (head == null) throw new NoSuchElementException();
+        return unlink(head);
+    }
+
+    /**
+     * Removes the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return deleted element
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    public T removeLast() {
+        if (tail == null) throw new NoSuchElementException();
+        return unlink(tail);
+    }
+
+    private void linkBefore(T element, Node<T> successor) {
+        final var predecessor = successor == null ? tail : successor.prev;
+        final var newNode = new Node<>(element);
+        newNode.prev = predecessor;
+        newNode.next = successor;
+        if (predecessor == null) {
+            head = newNode;
+        } else {
+            predecessor.next = newNode;
+        }
+        if (successor == null) {
+            tail = newNode;
+        } else {
+            successor.prev = newNode;
+        }
+        size++;
+        modCount++;
+    }
+
+    private T unlink(Node<T> node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        final var deletedElement = node.value;
+        node.prev = node.next = null;
+        node.value = null;
+        size--;
+        modCount++;
+        return deletedElement;
+    }
+
+    /**
+     * Checks if a specific exists in he list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        var currentNode = head;
+        while (currentNode != null) {
+            if (Objects.equals(currentNode.value, element)) return true;
+            currentNode = currentNode.next;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        head = tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * Returns a list iterator positioned before the first element.
+     *
+     * @return a list iterator in proper sequence
+     */
+    public ListIterator<T> listIterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * Returns a list iterator positioned before the element at provided index. The position is reached from the
+     * nearer end of the list, after that every iterator operation, including {@link ListIterator#add(Object)} and
+     * {@link ListIterator#remove()}, is performed in constant time O(1). The iterator is fail-fast: it throws
+     * {@link ConcurrentModificationException} once the list is structurally modified by anything but the iterator
+     * itself.
+     *
+     * @param index index of the first element to be returned by {@link ListIterator#next()}
+     * @return a list iterator in proper sequence
+     */
+    public ListIterator<T> listIterator(int index) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException(index);
+        return new ListItr(index);
+    }
+
+    private class ListItr implements ListIterator<T> {
+        private Node<T> next;
+        private Node<T> lastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        ListItr(int index) {
+            next = index == size ? null : searchNodeByIndex(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) throw new NoSuchElementException();
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.value;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) throw new NoSuchElementException();
+            next = next == null ? tail : next.prev;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.value;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) throw new IllegalStateException();
+            if (next == lastReturned) {
+                next = lastReturned.next;
+            } else {
+                nextIndex--;
+            }
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(T element) {
+            checkForComodification();
+            if (lastReturned == null) throw new IllegalStateException();
+            lastReturned.value = element;
+        }
+
+        @Override
+        public void add(T element) {
+            checkForComodification();
+            linkBefore(element, next);
+            lastReturned = null;
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+    }
+
+    static class Node<T> {
+        private T value;
+        private Node<T> prev;
+        private Node<T> next;
+
+        Node(T value) {
+            this.value = value;
+        }
+    }
+}
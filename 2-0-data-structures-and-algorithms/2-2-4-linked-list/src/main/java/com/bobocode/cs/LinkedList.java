@@ -1,9 +1,13 @@
 package com.bobocode.cs;
 
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.function.Predicate;
 
 /**
  * {@link LinkedList} is a list implementation that is based on singly linked generic nodes. A node is implemented as
@@ -18,6 +22,26 @@ public class LinkedList<T> implements List<T> {
     private Node<T> head;
     private Node<T> tail;
     private int size;
+    private final NodePool<Node<T>> pool;
+
+    /**
+     * Creates an empty list that allocates a new node for every added element.
+     */
+    public LinkedList() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty list that keeps up to provided number of removed nodes in a {@link NodePool} and reuses them
+     * for added elements, instead of allocating new ones.
+     *
+     * @param poolCapacity the maximum number of pooled nodes, zero disables pooling
+     * @throws IllegalArgumentException if the pool capacity is negative
+     */
+    public LinkedList(int poolCapacity) {
+        if (poolCapacity < 0) throw new IllegalArgumentException("Invalid pool capacity " + poolCapacity);
+        this.pool = new NodePool<>(poolCapacity);
+    }
 
     /**
      * This method creates a list of provided elements
@@ -29,7 +53,7 @@ public class LinkedList<T> implements List<T> {
     @SafeVarargs
     public static <T> LinkedList<T> of(T... elements) {
         final var list = new LinkedList<T>();
-        Stream.of(elements).forEach(list::add);
+        list.addAll(elements);
         return list;
     }
 
@@ -40,7 +64,7 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void add(T element) {
-        final var newNode = new Node<>(element);
+        final var newNode = nodeOf(element);
         if (head == null) {
             head = tail = newNode;
         } else {
@@ -65,7 +89,7 @@ public class LinkedList<T> implements List<T> {
             return;
         }
 
-        final var newNode = new Node<>(element);
+        final var newNode = nodeOf(element);
         if (index == 0) {
             newNode.next = head;
             head = newNode;
@@ -149,15 +173,19 @@ public class LinkedList<T> implements List<T> {
     public T remove(int index) {
         if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
 
-        T deletedElement;
+        Node<T> deletedNode;
         if (index == 0) {
-            deletedElement = head.value;
+            deletedNode = head;
             head = head.next;
+            if (head == null) tail = null;
         } else {
             final var previousNode = searchNodeByIndex(index - 1);
-            deletedElement = previousNode.next.value;
-            previousNode.next = previousNode.next.next;
+            deletedNode = previousNode.next;
+            previousNode.next = deletedNode.next;
+            if (previousNode.next == null) tail = previousNode;
         }
+        final T deletedElement = deletedNode.value;
+        recycle(deletedNode);
         size--;
         return deletedElement;
     }
@@ -199,14 +227,171 @@ public class LinkedList<T> implements List<T> {
     }
 
     /**
-     * Removes all list elements
+     * Removes all list elements. If the list pools nodes, removed nodes are released to the pool until it is full.
      */
     @Override
     public void clear() {
+        var current = head;
+        while (current != null && pool.available() < pool.capacity()) {
+            final var next = current.next;
+            recycle(current);
+            current = next;
+        }
         head = tail = null;
         size = 0;
     }
 
+    /**
+     * Adds all elements of the array to the end of the list. New nodes are linked into a chain first, and the chain
+     * is spliced to the tail at once.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(T[] elements) {
+        addAll(Arrays.asList(elements));
+    }
+
+    /**
+     * Adds all elements of the collection to the end of the list. New nodes are linked into a chain first, and the
+     * chain is spliced to the tail at once.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        Node<T> first = null;
+        Node<T> last = null;
+        int added = 0;
+        for (T element : elements) {
+            final var newNode = nodeOf(element);
+            if (first == null) {
+                first = newNode;
+            } else {
+                last.next = newNode;
+            }
+            last = newNode;
+            added++;
+        }
+        if (first == null) return;
+
+        if (head == null) {
+            head = first;
+        } else {
+            tail.next = first;
+        }
+        tail = last;
+        size += added;
+    }
+
+    /**
+     * Removes all elements that satisfy the predicate in a single pass, unlinking every removed node in constant time.
+     *
+     * @param filter a predicate that returns {@code true} for elements to remove
+     * @return {@code true} if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        final int oldSize = size;
+        Node<T> previous = null;
+        var current = head;
+        while (current != null) {
+            final var next = current.next;
+            if (filter.test(current.value)) {
+                if (previous == null) {
+                    head = next;
+                } else {
+                    previous.next = next;
+                }
+                recycle(current);
+                size--;
+            } else {
+                previous = current;
+            }
+            current = next;
+        }
+        tail = previous;
+        return size != oldSize;
+    }
+
+    /**
+     * Sorts the list. Values are copied into an array and sorted there, then written back to the same nodes in a
+     * single pass, so no node is allocated or relinked. The sort is stable, {@code null} comparator means natural
+     * ordering of elements.
+     *
+     * @param comparator a comparator to compare elements, or {@code null} for natural ordering
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comparator) {
+        final var values = (T[]) new Object[size];
+        int index = 0;
+        for (var current = head; current != null; current = current.next) {
+            values[index++] = current.value;
+        }
+        Arrays.sort(values, comparator);
+
+        index = 0;
+        for (var current = head; current != null; current = current.next) {
+            current.value = values[index++];
+        }
+    }
+
+    /**
+     * Returns an iterator that walks the nodes one by one, so a full pass takes O(n) instead of O(n^2) for
+     * {@link #get(int)} in a loop. {@link Iterator#remove()} unlinks the last returned node in constant time.
+     *
+     * @return an iterator in proper sequence
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private Node<T> next = head;
+            private Node<T> lastReturned;
+            private Node<T> previous;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                if (next == null) throw new NoSuchElementException();
+                if (lastReturned != null) previous = lastReturned;
+                lastReturned = next;
+                next = next.next;
+                return lastReturned.value;
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == null) throw new IllegalStateException();
+                if (previous == null) {
+                    head = next;
+                } else {
+                    previous.next = next;
+                }
+                if (lastReturned == tail) tail = previous;
+                recycle(lastReturned);
+                lastReturned = null;
+                size--;
+            }
+        };
+    }
+
+    private Node<T> nodeOf(T element) {
+        return pool.acquire(element, Node::new, (node, value) -> node.value = value);
+    }
+
+    private void recycle(Node<T> node) {
+        pool.release(node, released -> {
+            released.value = null;
+            released.next = null;
+        });
+    }
+
     public static class Node<T> {
         private T value;
         private Node<T> next;
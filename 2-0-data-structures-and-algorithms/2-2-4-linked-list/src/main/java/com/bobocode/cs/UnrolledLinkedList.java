@@ -0,0 +1,406 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link UnrolledLinkedList} is a list implementation that is based on doubly linked nodes holding up to
+ * {@code nodeCapacity} elements each. Compared to {@link LinkedList}, it allocates one node per tens of elements and
+ * keeps neighbour elements next to each other in memory, so iteration is cache-friendly. Compared to
+ * {@link java.util.ArrayList}, an insert or a removal in the middle shifts elements of a single node only.
+ * <p>
+ * A full node is split in halves on insert. A node that falls below half of its capacity on removal takes elements
+ * from the next node, or is merged with it when they fit together, so nodes stay at least half full.
+ *
+ * @param <T> generic type parameter
+ */
+public class UnrolledLinkedList<T> implements List<T> {
+
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+
+    private final int nodeCapacity;
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+
+    /**
+     * This constructor creates an instance of {@link UnrolledLinkedList} with nodes of 64 elements.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * This constructor creates an instance of {@link UnrolledLinkedList} with a specific number of elements per node.
+     *
+     * @param nodeCapacity the maximum number of elements in a node
+     * @throws IllegalArgumentException if the node capacity is less than 2
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) throw new IllegalArgumentException("Node capacity must be at least 2");
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> UnrolledLinkedList<T> of(T... elements) {
+        final var list = new UnrolledLinkedList<T>();
+        for (var element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list. Nodes filled by appending are packed completely.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        if (tail == null || tail.count == nodeCapacity) {
+            linkAfter(new Node<>(nodeCapacity), tail);
+        }
+        tail.elements[tail.count++] = element;
+        size++;
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException(index);
+        if (index == size) {
+            add(element);
+            return;
+        }
+
+        final var position = positionOf(index);
+        var node = position.node;
+        int offset = position.offset;
+        if (node.count == nodeCapacity) {
+            final var newNode = split(node);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = newNode;
+            }
+        }
+        System.arraycopy(node.elements, offset, node.elements, offset + 1, node.count - offset);
+        node.elements[offset] = element;
+        node.count++;
+        size++;
+    }
+
+    private Node<T> split(Node<T> node) {
+        final var newNode = new Node<T>(nodeCapacity);
+        final int half = node.count >> 1;
+        final int moved = node.count - half;
+        System.arraycopy(node.elements, half, newNode.elements, 0, moved);
+        Arrays.fill(node.elements, half, node.count, null);
+        newNode.count = moved;
+        node.count = half;
+        linkAfter(newNode, node);
+        return newNode;
+    }
+
+    /**
+     * Changes the value of a list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   a position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        final var position = positionOf(index);
+        position.node.elements[position.offset] = element;
+    }
+
+    /**
+     * Retrieves an elements by its position index. The search skips whole nodes starting from the nearer end of the
+     * list. In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        final var position = positionOf(index);
+        return (T) position.node.elements[position.offset];
+    }
+
+    private Position<T> positionOf(int index) {
+        if (index < size >> 1) {
+            var node = head;
+            int offset = index;
+            while (offset >= node.count) {
+                offset -= node.count;
+                node = node.next;
+            }
+            return new Position<>(node, offset);
+        } else {
+            var node = tail;
+            int offset = index - (size - node.count);
+            while (offset < 0) {
+                node = node.prev;
+                offset += node.count;
+            }
+            return new Position<>(node, offset);
+        }
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getFirst() {
+        if (head == null) throw new NoSuchElementException();
+        return (T) head.elements[0];
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getLast() {
+        if (tail == null) throw new NoSuchElementException();
+        return (T) tail.elements[tail.count - 1];
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    public T remove(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        final var position = positionOf(index);
+        return removeAt(position.node, position.offset);
+    }
+
+    /**
+     * Removes an element from the node and rebalances the node with the next one. Elements of the next node are only
+     * appended to the end of this node, so the position of every element before them stays the same.
+     */
+    @SuppressWarnings("unchecked")
+    private T removeAt(Node<T> node, int offset) {
+        final T deletedElement = (T) node.elements[offset];
+        System.arraycopy(node.elements, offset + 1, node.elements, offset, node.count - offset - 1);
+        node.elements[--node.count] = null;
+        size--;
+
+        final int minCount = nodeCapacity >> 1;
+        if (node.count == 0) {
+            unlink(node);
+        } else if (node.count < minCount && node.next != null) {
+            final var next = node.next;
+            final int moved = node.count + next.count <= nodeCapacity ? next.count : minCount - node.count;
+            System.arraycopy(next.elements, 0, node.elements, node.count, moved);
+            node.count += moved;
+            if (moved == next.count) {
+                unlink(next);
+            } else {
+                System.arraycopy(next.elements, moved, next.elements, 0, next.count - moved);
+                Arrays.fill(next.elements, next.count - moved, next.count, null);
+                next.count -= moved;
+            }
+        }
+        return deletedElement;
+    }
+
+    private void linkAfter(Node<T> newNode, Node<T> predecessor) {
+        final var successor = predecessor == null ? head : predecessor.next;
+        newNode.prev = predecessor;
+        newNode.next = successor;
+        if (predecessor == null) {
+            head = newNode;
+        } else {
+            predecessor.next = newNode;
+        }
+        if (successor == null) {
+            tail = newNode;
+        } else {
+            successor.prev = newNode;
+        }
+    }
+
+    /**
+     * Unlinks the node from its neighbours. The node keeps its own links, so an iterator standing on it can still
+     * move forward.
+     */
+    private void unlink(Node<T> node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+    }
+
+    /**
+     * Checks if a specific exists in he list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (var node = head; node != null; node = node.next) {
+            final var nodeElements = node.elements;
+            final int count = node.count;
+            if (element == null) {
+                for (int i = 0; i < count; i++) {
+                    if (nodeElements[i] == null) return true;
+                }
+            } else {
+                for (int i = 0; i < count; i++) {
+                    if (element.equals(nodeElements[i])) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        head = tail = null;
+        size = 0;
+    }
+
+    /**
+     * Returns an iterator that walks node arrays one after another. {@link Iterator#remove()} is supported.
+     *
+     * @return an iterator in proper sequence
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private Node<T> node = head;
+            private int offset;
+            private int remaining = size;
+            private Node<T> lastNode;
+            private int lastOffset;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (remaining == 0) throw new NoSuchElementException();
+                while (offset == node.count) {
+                    node = node.next;
+                    offset = 0;
+                }
+                lastNode = node;
+                lastOffset = offset;
+                remaining--;
+                return (T) node.elements[offset++];
+            }
+
+            @Override
+            public void remove() {
+                if (lastNode == null) throw new IllegalStateException();
+                removeAt(lastNode, lastOffset);
+                node = lastNode;
+                offset = lastOffset;
+                lastNode = null;
+            }
+        };
+    }
+
+    /**
+     * Performs the action for every element walking node arrays directly, without an iterator.
+     *
+     * @param action the action to be performed for each element
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        for (var node = head; node != null; node = node.next) {
+            final var nodeElements = node.elements;
+            final int count = node.count;
+            for (int i = 0; i < count; i++) {
+                action.accept((T) nodeElements[i]);
+            }
+        }
+    }
+
+    static class Node<T> {
+        private final Object[] elements;
+        private int count;
+        private Node<T> prev;
+        private Node<T> next;
+
+        Node(int capacity) {
+            this.elements = new Object[capacity];
+        }
+    }
+
+    private static final class Position<T> {
+        private final Node<T> node;
+        private final int offset;
+
+        private Position(Node<T> node, int offset) {
+            this.node = node;
+            this.offset = offset;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ConcurrentModificationException;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class DoublyLinkedListTest {
+
+    private final DoublyLinkedList<Integer> intList = new DoublyLinkedList<>();
+
+    @Test
+    @Order(1)
+    void addAndGet() {
+        intList.add(1);
+        intList.add(2);
+        intList.addFirst(0);
+
+        assertThat(intList.size()).isEqualTo(3);
+        assertThat(intList.get(0)).isEqualTo(0);
+        assertThat(intList.get(1)).isEqualTo(1);
+        assertThat(intList.get(2)).isEqualTo(2);
+    }
+
+    @Test
+    @Order(2)
+    void getFromBothHalves() {
+        DoublyLinkedList<Integer> list = listOfRange(101);
+
+        for (int i = 0; i < 101; i++) {
+            assertThat(list.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Order(3)
+    void addByIndex() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.of(1, 3, 5);
+
+        list.add(0, 0);
+        list.add(2, 2);
+        list.add(4, 4);
+        list.add(6, 6);
+
+        assertThat(contents(list)).isEqualTo(java.util.List.of(0, 1, 2, 3, 4, 5, 6));
+        assertThat(list.getLast()).isEqualTo(6);
+    }
+
+    @Test
+    @Order(4)
+    void addByIndexOutOfBounds() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.add(1, 1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.add(-1, 1));
+    }
+
+    @Test
+    @Order(5)
+    void set() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.of(1, 2, 3);
+
+        list.set(2, 30);
+
+        assertThat(list.getLast()).isEqualTo(30);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.set(3, 0));
+    }
+
+    @Test
+    @Order(6)
+    void removeByIndexKeepsLinksConsistent() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.of(0, 1, 2, 3, 4);
+
+        assertThat(list.remove(3)).isEqualTo(3);
+        assertThat(list.remove(0)).isEqualTo(0);
+        assertThat(list.remove(2)).isEqualTo(4);
+
+        assertThat(contents(list)).isEqualTo(java.util.List.of(1, 2));
+        assertThat(list.getFirst()).isEqualTo(1);
+        assertThat(list.getLast()).isEqualTo(2);
+        assertThat(list.get(1)).isEqualTo(2);
+    }
+
+    @Test
+    @Order(7)
+    void removeFirstAndLast() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.of(1, 2, 3);
+
+        assertThat(list.removeLast()).isEqualTo(3);
+        assertThat(list.removeFirst()).isEqualTo(1);
+        assertThat(list.removeLast()).isEqualTo(2);
+
+        assertThat(list.isEmpty()).isTrue();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::removeFirst);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::removeLast);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::getFirst);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::getLast);
+    }
+
+    @Test
+    @Order(8)
+    void queueLikeUsage() {
+        for (int i = 0; i < 100_000; i++) {
+            intList.addLast(i);
+            if (i % 2 == 1) intList.removeFirst();
+        }
+
+        assertThat(intList.size()).isEqualTo(50_000);
+        assertThat(intList.getFirst()).isEqualTo(50_000);
+        assertThat(intList.getLast()).isEqualTo(99_999);
+    }
+
+    @Test
+    @Order(9)
+    void containsAndClear() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.of(1, null, 3);
+
+        assertThat(list.contains(null)).isTrue();
+        assertThat(list.contains(3)).isTrue();
+        assertThat(list.contains(4)).isFalse();
+
+        list.clear();
+
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.contains(1)).isFalse();
+    }
+
+    @Test
+    @Order(10)
+    void listIteratorWalksBothWays() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.of(1, 2, 3);
+
+        ListIterator<Integer> iterator = list.listIterator(3);
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(iterator.previous()).isEqualTo(3);
+        assertThat(iterator.previous()).isEqualTo(2);
+        assertThat(iterator.nextIndex()).isEqualTo(1);
+        assertThat(iterator.next()).isEqualTo(2);
+        assertThat(iterator.previous()).isEqualTo(2);
+        assertThat(iterator.previous()).isEqualTo(1);
+        assertThat(iterator.hasPrevious()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::previous);
+    }
+
+    @Test
+    @Order(11)
+    void listIteratorAddsAtItsPosition() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.of(1, 3);
+
+        ListIterator<Integer> iterator = list.listIterator();
+        iterator.add(0);
+        iterator.next();
+        iterator.add(2);
+        iterator.next();
+        iterator.add(4);
+
+        assertThat(contents(list)).isEqualTo(java.util.List.of(0, 1, 2, 3, 4));
+        assertThat(list.getLast()).isEqualTo(4);
+        assertThat(iterator.previous()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(12)
+    void listIteratorRemovesAfterNextAndPrevious() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.of(1, 2, 3, 4, 5);
+
+        ListIterator<Integer> iterator = list.listIterator();
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+        assertThat(iterator.nextIndex()).isEqualTo(1);
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(iterator::remove);
+
+        iterator.next();
+        iterator.next();
+        iterator.previous();
+        iterator.remove();
+        assertThat(iterator.nextIndex()).isEqualTo(2);
+        assertThat(iterator.next()).isEqualTo(5);
+
+        assertThat(contents(list)).isEqualTo(java.util.List.of(1, 3, 5));
+    }
+
+    @Test
+    @Order(13)
+    void listIteratorSet() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.of(1, 2);
+
+        ListIterator<Integer> iterator = list.listIterator();
+        iterator.next();
+        iterator.set(10);
+
+        assertThat(list.getFirst()).isEqualTo(10);
+    }
+
+    @Test
+    @Order(14)
+    void iteratorIsFailFast() {
+        DoublyLinkedList<Integer> list = DoublyLinkedList.of(1, 2, 3);
+
+        ListIterator<Integer> iterator = list.listIterator();
+        iterator.next();
+        list.removeLast();
+
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(15)
+    void parallelStreamKeepsEncounterOrder() {
+        DoublyLinkedList<Integer> list = listOfRange(10_000);
+
+        assertThat(list.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(49_995_000L);
+        assertThat(list.parallelStream().skip(9_998).collect(Collectors.toList()))
+                .isEqualTo(java.util.List.of(9_998, 9_999));
+    }
+
+    private static DoublyLinkedList<Integer> listOfRange(int size) {
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private static java.util.List<Integer> contents(DoublyLinkedList<Integer> list) {
+        return list.stream().collect(Collectors.toList());
+    }
+}
@@ -11,8 +11,12 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
@@ -510,6 +514,188 @@ public class LinkedListTest {
                 .isThrownBy(() -> getInternalElement(0));
     }
 
+    @Test
+    @Order(42)
+    void iteratorVisitsElementsInOrder() {
+        addInternalElements(4, 5, 6);
+
+        java.util.List<Integer> visited = new java.util.ArrayList<>();
+        for (Integer element : intList) {
+            visited.add(element);
+        }
+
+        assertThat(visited).isEqualTo(java.util.List.of(4, 5, 6));
+    }
+
+    @Test
+    @Order(43)
+    void iteratorRemoveUnlinksNodes() {
+        addInternalElements(1, 2, 3, 4);
+
+        Iterator<Integer> iterator = intList.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) iterator.remove();
+        }
+
+        assertThat(getInternalSize()).isEqualTo(2);
+        assertThat(getInternalElement(0)).isEqualTo(1);
+        assertThat(getInternalElement(1)).isEqualTo(3);
+        assertThat(intList.getLast()).isEqualTo(3);
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(iterator::remove);
+    }
+
+    @Test
+    @Order(44)
+    void iteratorRemoveHeadAndTail() {
+        addInternalElements(1, 2);
+
+        Iterator<Integer> iterator = intList.iterator();
+        iterator.next();
+        iterator.remove();
+        iterator.next();
+        iterator.remove();
+
+        assertThat(intList.isEmpty()).isTrue();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(intList::getLast);
+    }
+
+    @Test
+    @Order(45)
+    void spliteratorIsSized() {
+        addInternalElements(4, 5, 6);
+
+        Spliterator<Integer> spliterator = intList.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(46)
+    void parallelStreamKeepsEncounterOrder() {
+        for (int i = 0; i < 10_000; i++) {
+            intList.add(i);
+        }
+
+        assertThat(intList.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(49_995_000L);
+        assertThat(intList.parallelStream().skip(9_998).collect(Collectors.toList()))
+                .isEqualTo(java.util.List.of(9_998, 9_999));
+    }
+
+    @Test
+    @Order(47)
+    void removeLastElementUpdatesTail() {
+        addInternalElements(1, 2, 3);
+
+        intList.remove(2);
+        intList.add(4);
+
+        assertThat(intList.getLast()).isEqualTo(4);
+        assertThat(intList.get(2)).isEqualTo(4);
+    }
+
+    @Test
+    @Order(48)
+    void removeOnlyElementClearsTail() {
+        addInternalElements(1);
+
+        intList.remove(0);
+
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(intList::getLast);
+    }
+
+    @Test
+    @Order(49)
+    void addAllSplicesNodesToTail() {
+        addInternalElements(1, 2);
+
+        intList.addAll(new Integer[]{3, 4});
+        intList.addAll(java.util.List.of(5));
+        intList.addAll(java.util.List.of());
+
+        assertThat(getInternalSize()).isEqualTo(5);
+        assertThat(getInternalElement(4)).isEqualTo(5);
+        assertThat(intList.getLast()).isEqualTo(5);
+    }
+
+    @Test
+    @Order(50)
+    void addAllToEmptyList() {
+        intList.addAll(new Integer[]{1, 2});
+        intList.add(3);
+
+        assertThat(intList.getFirst()).isEqualTo(1);
+        assertThat(getInternalElement(2)).isEqualTo(3);
+    }
+
+    @Test
+    @Order(51)
+    void removeIfUpdatesHeadAndTail() {
+        addInternalElements(2, 1, 4, 3, 6);
+
+        boolean removed = intList.removeIf(element -> element % 2 == 0);
+
+        assertThat(removed).isTrue();
+        assertThat(getInternalSize()).isEqualTo(2);
+        assertThat(getInternalElement(0)).isEqualTo(1);
+        assertThat(getInternalElement(1)).isEqualTo(3);
+        assertThat(intList.getLast()).isEqualTo(3);
+        assertThat(intList.removeIf(element -> element > 10)).isFalse();
+    }
+
+    @Test
+    @Order(52)
+    void removeIfAllElements() {
+        addInternalElements(1, 2);
+
+        intList.removeIf(element -> true);
+
+        assertThat(intList.isEmpty()).isTrue();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(intList::getLast);
+    }
+
+    @Test
+    @Order(53)
+    void sortRewritesValuesInOrder() {
+        addInternalElements(5, 3, 4, 1, 2);
+
+        intList.sort(null);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(getInternalElement(i)).isEqualTo(i + 1);
+        }
+
+        intList.sort(Comparator.reverseOrder());
+
+        assertThat(getInternalElement(0)).isEqualTo(5);
+        assertThat(intList.getLast()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(54)
+    @SneakyThrows
+    void addReusesRemovedNodes() {
+        intList = new LinkedList<>(2);
+        intList.addAll(new Integer[]{1, 2, 3, 4});
+        Object removedNode = getAccessibleFieldByPredicate(intList, HEAD_NODE_FIELD).get(intList);
+
+        intList.removeIf(element -> element == 3);
+        intList.remove(0);
+        intList.add(0, 5);
+
+        assertThat(getAccessibleFieldByPredicate(intList, HEAD_NODE_FIELD).get(intList)).isSameAs(removedNode);
+        assertThat(intList.size()).isEqualTo(3);
+        assertThat(getInternalElement(0)).isEqualTo(5);
+        assertThat(getInternalElement(1)).isEqualTo(2);
+        assertThat(getInternalElement(2)).isEqualTo(4);
+
+        intList.clear();
+        intList.add(6);
+
+        assertThat(intList.getFirst()).isEqualTo(6);
+        assertThat(intList.size()).isEqualTo(1);
+    }
+
     @SneakyThrows
     private int getInternalElement(int index) {
 
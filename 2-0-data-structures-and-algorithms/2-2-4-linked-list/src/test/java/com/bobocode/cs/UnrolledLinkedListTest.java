@@ -0,0 +1,197 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class UnrolledLinkedListTest {
+
+    private final UnrolledLinkedList<Integer> intList = new UnrolledLinkedList<>(4);
+
+    @Test
+    @Order(1)
+    void addAndGetAcrossNodes() {
+        for (int i = 0; i < 10; i++) {
+            intList.add(i);
+        }
+
+        assertThat(intList.size()).isEqualTo(10);
+        for (int i = 0; i < 10; i++) {
+            assertThat(intList.get(i)).isEqualTo(i);
+        }
+        assertThat(intList.getFirst()).isEqualTo(0);
+        assertThat(intList.getLast()).isEqualTo(9);
+    }
+
+    @Test
+    @Order(2)
+    void addByIndexSplitsFullNode() {
+        for (int i = 0; i < 8; i++) {
+            intList.add(i * 10);
+        }
+
+        intList.add(1, 5);
+        intList.add(4, 25);
+        intList.add(0, -10);
+
+        assertThat(contents(intList)).isEqualTo(java.util.List.of(-10, 0, 5, 10, 20, 25, 30, 40, 50, 60, 70));
+    }
+
+    @Test
+    @Order(3)
+    void addByIndexOutOfBounds() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.add(1, 1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.add(-1, 1));
+    }
+
+    @Test
+    @Order(4)
+    void removeMergesNodes() {
+        for (int i = 0; i < 12; i++) {
+            intList.add(i);
+        }
+
+        for (int i = 0; i < 6; i++) {
+            intList.remove(1);
+        }
+
+        assertThat(contents(intList)).isEqualTo(java.util.List.of(0, 7, 8, 9, 10, 11));
+        assertThat(intList.getLast()).isEqualTo(11);
+    }
+
+    @Test
+    @Order(5)
+    void removeAllElements() {
+        for (int i = 0; i < 9; i++) {
+            intList.add(i);
+        }
+
+        for (int i = 0; i < 9; i++) {
+            assertThat(intList.remove(intList.size() - 1)).isEqualTo(8 - i);
+        }
+
+        assertThat(intList.isEmpty()).isTrue();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(intList::getFirst);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(intList::getLast);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.remove(0));
+    }
+
+    @Test
+    @Order(6)
+    void setAndContains() {
+        UnrolledLinkedList<Integer> list = UnrolledLinkedList.of(1, 2, null, 4);
+
+        list.set(3, 40);
+
+        assertThat(list.get(3)).isEqualTo(40);
+        assertThat(list.contains(null)).isTrue();
+        assertThat(list.contains(40)).isTrue();
+        assertThat(list.contains(4)).isFalse();
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.set(4, 0));
+    }
+
+    @Test
+    @Order(7)
+    void clear() {
+        UnrolledLinkedList<Integer> list = UnrolledLinkedList.of(1, 2, 3);
+
+        list.clear();
+        list.add(4);
+
+        assertThat(contents(list)).isEqualTo(java.util.List.of(4));
+    }
+
+    @Test
+    @Order(8)
+    void iteratorRemove() {
+        for (int i = 0; i < 20; i++) {
+            intList.add(i);
+        }
+
+        Iterator<Integer> iterator = intList.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 3 != 0) iterator.remove();
+        }
+
+        assertThat(contents(intList)).isEqualTo(java.util.List.of(0, 3, 6, 9, 12, 15, 18));
+        assertThat(intList.size()).isEqualTo(7);
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(iterator::remove);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(9)
+    void behavesLikeArrayListUnderRandomOperations() {
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(42);
+
+        for (int step = 0; step < 20_000; step++) {
+            int operation = random.nextInt(10);
+            if (operation < 4 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, step);
+                intList.add(index, step);
+            } else if (operation < 7) {
+                int index = random.nextInt(expected.size());
+                assertThat(intList.remove(index)).isEqualTo(expected.remove(index));
+            } else if (operation < 8) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -step);
+                intList.set(index, -step);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertThat(intList.get(index)).isEqualTo(expected.get(index));
+            }
+            assertThat(intList.size()).isEqualTo(expected.size());
+        }
+
+        assertThat(contents(intList)).isEqualTo(expected);
+    }
+
+    @Test
+    @Order(10)
+    void parallelStreamKeepsEncounterOrder() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+        for (int i = 0; i < 10_000; i++) {
+            list.add(i);
+        }
+
+        assertThat(list.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(49_995_000L);
+        assertThat(list.parallelStream().skip(9_998).collect(Collectors.toList()))
+                .isEqualTo(java.util.List.of(9_998, 9_999));
+    }
+
+    @Test
+    @Order(11)
+    void constructorWithTooSmallNodeCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new UnrolledLinkedList<>(1));
+    }
+
+    @Test
+    @Order(12)
+    void bulkOperationsOfListInterface() {
+        intList.addAll(new Integer[]{5, 4, 3});
+        intList.addAll(java.util.List.of(2, 1, 0));
+
+        intList.sort(null);
+        assertThat(contents(intList)).isEqualTo(java.util.List.of(0, 1, 2, 3, 4, 5));
+
+        assertThat(intList.removeIf(element -> element % 2 == 1)).isTrue();
+        assertThat(contents(intList)).isEqualTo(java.util.List.of(0, 2, 4));
+        assertThat(intList.removeIf(element -> element > 10)).isFalse();
+    }
+
+    private static java.util.List<Integer> contents(UnrolledLinkedList<Integer> list) {
+        return list.stream().collect(Collectors.toList());
+    }
+}
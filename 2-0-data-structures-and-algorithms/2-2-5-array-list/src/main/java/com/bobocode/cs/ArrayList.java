@@ -3,9 +3,14 @@ package com.bobocode.cs;
 import com.bobocode.util.ExerciseNotCompletedException;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
 
 /**
  * {@link ArrayList} is an implementation of {@link List} interface. This resizable data structure
@@ -48,8 +53,8 @@ public class ArrayList<T> implements List<T> {
      */
     @SafeVarargs
     public static <T> List<T> of(T... elements) {
-        final var list = new ArrayList<T>(elements.length);
-        Stream.of(elements).forEach(list::add);
+        final var list = new ArrayList<T>(Math.max(elements.length, 1));
+        list.addAll(elements);
         return list;
     }
 
@@ -67,9 +72,33 @@ public class ArrayList<T> implements List<T> {
 
     private void increaseInnerArraySize() {
         if (data.length == size) {
-            var newArray = new Object[data.length * 2];
-            System.arraycopy(data, 0, newArray, 0, data.length);
-            data = newArray;
+            resize(Math.max(data.length * 2, DEFAULT_CAPACITY));
+        }
+    }
+
+    private void resize(int capacity) {
+        data = Arrays.copyOf(data, capacity);
+    }
+
+    /**
+     * Increases the capacity of an inner array, if necessary, so it can hold at least provided number of elements
+     * without resizing. It allows to avoid multiple resizes when the number of elements is known in advance.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) {
+            resize(Math.max(minCapacity, data.length * 2));
+        }
+    }
+
+    /**
+     * Trims the capacity of an inner array to the list size, so the list does not hold memory for elements that are
+     * not going to be added.
+     */
+    public void trimToSize() {
+        if (size < data.length) {
+            resize(size);
         }
     }
 
@@ -84,7 +113,7 @@ public class ArrayList<T> implements List<T> {
         if (index < 0 || index > size) throw new IndexOutOfBoundsException(index);
 
         increaseInnerArraySize();
-        moveSubSequenceInArrayToRight(index);
+        System.arraycopy(data, index, data, index + 1, size - index);
 
         data[index] = element;
         size++;
@@ -152,25 +181,12 @@ public class ArrayList<T> implements List<T> {
         if (index < 0 || index + 1 > size) throw new IndexOutOfBoundsException(index);
 
         final T deletedElement = (T) data[index];
-        data[index] = null;
-        moveSubSequenceInArrayToLeft(index);
+        System.arraycopy(data, index + 1, data, index, size - index - 1);
         size--;
+        data[size] = null;
         return deletedElement;
     }
 
-    private void moveSubSequenceInArrayToLeft(int index) {
-        for (int i = index; i < size; i++) {
-            if (i == data.length - 1) data[i] = null;
-            else data[i] = data[i + 1];
-        }
-    }
-
-    private void moveSubSequenceInArrayToRight(int index) {
-        for (int i = size - 1; i > index; i--) {
-            if (i != 0) data[i] = data[i - 1];
-        }
-    }
-
     /**
      * Checks for existing of a specific element in the list.
      *
@@ -179,8 +195,16 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public boolean contains(T element) {
-        return Stream.of(data)
-                .anyMatch(e -> Objects.equals(e, element));
+        if (element == null) {
+            for (int i = 0; i < size; i++) {
+                if (data[i] == null) return true;
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                if (element.equals(data[i])) return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -209,4 +233,122 @@ public class ArrayList<T> implements List<T> {
         Arrays.fill(data, null);
         size = 0;
     }
+
+    /**
+     * Adds all elements of the array to the end of the list with a single copy, growing the inner array at most
+     * once.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(T[] elements) {
+        appendArray(elements);
+    }
+
+    /**
+     * Adds all elements of the collection to the end of the list with a single copy of its array representation,
+     * growing the inner array at most once.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        appendArray(elements.toArray());
+    }
+
+    private void appendArray(Object[] elements) {
+        ensureCapacity(size + elements.length);
+        System.arraycopy(elements, 0, data, size, elements.length);
+        size += elements.length;
+    }
+
+    /**
+     * Removes all elements that satisfy the predicate in a single pass, moving every remaining element at most once.
+     * If the predicate throws an exception, elements it has not tested yet stay in the list.
+     *
+     * @param filter a predicate that returns {@code true} for elements to remove
+     * @return {@code true} if any element was removed
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        final int oldSize = size;
+        int kept = 0;
+        int index = 0;
+        try {
+            for (; index < oldSize; index++) {
+                final var element = (T) data[index];
+                if (!filter.test(element)) {
+                    data[kept++] = element;
+                }
+            }
+        } finally {
+            final int untested = oldSize - index;
+            System.arraycopy(data, index, data, kept, untested);
+            kept += untested;
+            Arrays.fill(data, kept, oldSize, null);
+            size = kept;
+        }
+        return size != oldSize;
+    }
+
+    /**
+     * Sorts the inner array in place. The sort is stable, {@code null} comparator means natural ordering of
+     * elements.
+     *
+     * @param comparator a comparator to compare elements, or {@code null} for natural ordering
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comparator) {
+        Arrays.sort((T[]) data, 0, size, comparator);
+    }
+
+    /**
+     * Returns an iterator over the list elements. Unlike calling {@link #get(int)} in a loop, it does not check
+     * bounds for every element. {@link Iterator#remove()} is supported.
+     *
+     * @return an iterator in proper sequence
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int cursor;
+            private int lastReturned = -1;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (cursor >= size) throw new NoSuchElementException();
+                lastReturned = cursor++;
+                return (T) data[lastReturned];
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned < 0) throw new IllegalStateException();
+                ArrayList.this.remove(lastReturned);
+                cursor = lastReturned;
+                lastReturned = -1;
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator over the inner array. It splits in halves by index and reports
+     * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}, so parallel streams divide work evenly.
+     *
+     * @return a spliterator over list elements
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Spliterator<T> spliterator() {
+        return (Spliterator<T>) Spliterators.spliterator(data, 0, size, Spliterator.ORDERED);
+    }
 }
@@ -0,0 +1,230 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.stream.DoubleStream;
+
+/**
+ * {@link DoubleArrayList} is an implementation of {@link DoubleList} interface. It works like {@link ArrayList}, but stores
+ * elements in a {@code double[]} array, so an element takes 8 bytes instead of a reference to a boxed {@link Double}.
+ */
+public class DoubleArrayList implements DoubleList {
+
+    private static final int DEFAULT_CAPACITY = 5;
+
+    private double[] data;
+    private int size = 0;
+
+    /**
+     * This constructor creates an instance of {@link DoubleArrayList} with a specific capacity of an array inside.
+     *
+     * @param initCapacity - the initial capacity of the list
+     * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
+     */
+    public DoubleArrayList(int initCapacity) {
+        if (initCapacity <= 0) throw new IllegalArgumentException();
+
+        this.data = new double[initCapacity];
+    }
+
+    /**
+     * This constructor creates an instance of {@link DoubleArrayList} with a default capacity of an array inside.
+     * A default size of inner array is 5;
+     */
+    public DoubleArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates and returns an instance of {@link DoubleArrayList} with provided elements
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    public static DoubleArrayList of(double... elements) {
+        final var list = new DoubleArrayList(Math.max(elements.length, 1));
+        System.arraycopy(elements, 0, list.data, 0, elements.length);
+        list.size = elements.length;
+        return list;
+    }
+
+    /**
+     * Adds an element to the array.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(double element) {
+        increaseInnerArraySize();
+        data[size] = element;
+        size++;
+    }
+
+    private void increaseInnerArraySize() {
+        if (data.length == size) {
+            resize(Math.max(data.length * 2, DEFAULT_CAPACITY));
+        }
+    }
+
+    private void resize(int capacity) {
+        data = Arrays.copyOf(data, capacity);
+    }
+
+    /**
+     * Increases the capacity of an inner array, if necessary, so it can hold at least provided number of elements
+     * without resizing.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) {
+            resize(Math.max(minCapacity, data.length * 2));
+        }
+    }
+
+    /**
+     * Trims the capacity of an inner array to the list size.
+     */
+    public void trimToSize() {
+        if (size < data.length) {
+            resize(size);
+        }
+    }
+
+    /**
+     * Adds an element to the specific position in the array
+     *
+     * @param index   index of position
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, double element) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException(index);
+
+        increaseInnerArraySize();
+        System.arraycopy(data, index, data, index + 1, size - index);
+
+        data[index] = element;
+        size++;
+    }
+
+    /**
+     * Retrieves an element by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index index of element
+     * @return en element
+     */
+    @Override
+    public double get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        return data[index];
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public double getFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return data[0];
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public double getLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return data[size - 1];
+    }
+
+    /**
+     * Changes the value of array at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   position of value
+     * @param element a new value
+     */
+    @Override
+    public void set(int index, double element) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        data[index] = element;
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    public double remove(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+
+        final double deletedElement = data[index];
+        System.arraycopy(data, index + 1, data, index, size - index - 1);
+        size--;
+        return deletedElement;
+    }
+
+    /**
+     * Checks for existing of a specific element in the list. Elements are compared like {@link Double#equals(Object)}
+     * does, so {@code NaN} is found and {@code 0.0} differs from {@code -0.0}.
+     *
+     * @param element is element
+     * @return If element exists method returns true, otherwise it returns false
+     */
+    @Override
+    public boolean contains(double element) {
+        final long bits = Double.doubleToLongBits(element);
+        for (int i = 0; i < size; i++) {
+            if (Double.doubleToLongBits(data[i]) == bits) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return amount of saved elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns a sequential stream over the list elements. The stream is backed by the inner array, so the list must
+     * not be modified until the stream is consumed.
+     *
+     * @return a stream of elements
+     */
+    @Override
+    public DoubleStream stream() {
+        return Arrays.stream(data, 0, size);
+    }
+}
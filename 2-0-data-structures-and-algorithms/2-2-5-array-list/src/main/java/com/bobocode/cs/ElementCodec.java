@@ -0,0 +1,119 @@
+package com.bobocode.cs;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link ElementCodec} converts elements of {@link OffHeapArrayList} to and from a fixed number of bytes. Every
+ * element is written at an absolute offset of a {@link ByteBuffer} and takes exactly {@link #width()} bytes, so a
+ * codec must not change the buffer position.
+ * <p>
+ * The buffer is a chunk of native memory owned by the list and is only valid for the duration of a call. A codec must
+ * not keep a reference to it, or to a slice, duplicate or view of it: the memory is freed by
+ * {@link OffHeapArrayList#close()}, and reading it afterwards may crash the JVM instead of throwing an exception.
+ *
+ * @param <T> generic type parameter
+ */
+public interface ElementCodec<T> {
+
+    ElementCodec<Long> LONG = new ElementCodec<>() {
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long element) {
+            buffer.putLong(offset, element);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+
+        @Override
+        public boolean matches(ByteBuffer buffer, int offset, Long element) {
+            return buffer.getLong(offset) == element;
+        }
+    };
+
+    ElementCodec<Integer> INT = new ElementCodec<>() {
+        @Override
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer element) {
+            buffer.putInt(offset, element);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+
+        @Override
+        public boolean matches(ByteBuffer buffer, int offset, Integer element) {
+            return buffer.getInt(offset) == element;
+        }
+    };
+
+    ElementCodec<Double> DOUBLE = new ElementCodec<>() {
+        @Override
+        public int width() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double element) {
+            buffer.putDouble(offset, element);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+
+        @Override
+        public boolean matches(ByteBuffer buffer, int offset, Double element) {
+            return Double.doubleToLongBits(buffer.getDouble(offset)) == Double.doubleToLongBits(element);
+        }
+    };
+
+    /**
+     * @return number of bytes taken by every element
+     */
+    int width();
+
+    /**
+     * Writes a non-null element into the buffer starting at provided offset.
+     *
+     * @param buffer  a buffer to write to
+     * @param offset  an absolute byte offset
+     * @param element element to write
+     */
+    void write(ByteBuffer buffer, int offset, T element);
+
+    /**
+     * Reads an element from the buffer starting at provided offset.
+     *
+     * @param buffer a buffer to read from
+     * @param offset an absolute byte offset
+     * @return a new element instance
+     */
+    T read(ByteBuffer buffer, int offset);
+
+    /**
+     * Checks whether an element stored at provided offset is equal to a non-null element. Codecs of primitive
+     * wrappers override it to compare the raw value without creating a new instance.
+     *
+     * @param buffer  a buffer to read from
+     * @param offset  an absolute byte offset
+     * @param element element to compare with
+     * @return {@code true} if elements are equal, {@code false} otherwise
+     */
+    default boolean matches(ByteBuffer buffer, int offset, T element) {
+        return element.equals(read(buffer, offset));
+    }
+}
@@ -0,0 +1,429 @@
+package com.bobocode.cs;
+
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link OffHeapArrayList} is an implementation of {@link List} that keeps its elements outside the Java heap.
+ * Elements are encoded by an {@link ElementCodec} into fixed-width slots of direct {@link ByteBuffer} chunks, so
+ * the garbage collector neither traces nor copies them, no matter how many elements the list holds.
+ * <p>
+ * The first chunk grows like an array of {@link ArrayList} until it reaches the chunk size, after that the list
+ * allocates new chunks and never copies already stored elements. The memory is released by {@link #close()}, any
+ * further access throws {@link IllegalStateException}. The list does not support {@code null} elements.
+ *
+ * @param <T> generic type parameter
+ */
+public class OffHeapArrayList<T> implements List<T>, AutoCloseable {
+
+    private static final int DEFAULT_CAPACITY = 5;
+    private static final int CHUNK_BYTES = 1 << 23;
+    private static final int SCRATCH_BYTES = 1 << 16;
+    private static final Consumer<ByteBuffer> DEALLOCATOR = findDeallocator();
+
+    private final ElementCodec<T> codec;
+    private final int width;
+    private final int chunkShift;
+    private final int chunkMask;
+
+    private ByteBuffer[] chunks = new ByteBuffer[0];
+    private int capacity;
+    private int size;
+    private boolean closed;
+    private byte[] scratch;
+
+    /**
+     * This constructor creates an empty instance of {@link OffHeapArrayList}. No memory is allocated until the first
+     * element is added.
+     *
+     * @param codec a codec that encodes elements
+     */
+    public OffHeapArrayList(ElementCodec<T> codec) {
+        this(codec, CHUNK_BYTES);
+    }
+
+    OffHeapArrayList(ElementCodec<T> codec, int chunkBytes) {
+        this.codec = Objects.requireNonNull(codec);
+        this.width = codec.width();
+        if (width <= 0 || width > chunkBytes) throw new IllegalArgumentException("Unsupported element width " + width);
+
+        this.chunkShift = Integer.numberOfTrailingZeros(Integer.highestOneBit(chunkBytes / width));
+        this.chunkMask = (1 << chunkShift) - 1;
+    }
+
+    /**
+     * Creates and returns an instance of {@link OffHeapArrayList} with provided elements
+     *
+     * @param codec    a codec that encodes elements
+     * @param elements to add
+     * @return new instance
+     */
+    @SafeVarargs
+    public static <T> OffHeapArrayList<T> of(ElementCodec<T> codec, T... elements) {
+        final var list = new OffHeapArrayList<>(codec);
+        list.ensureCapacity(elements.length);
+        for (var element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        ensureCapacity(size + 1);
+        codec.write(chunk(size), offset(size), element);
+        size++;
+    }
+
+    /**
+     * Adds an element to the specific position in the list shifting all the following elements by one.
+     *
+     * @param index   index of position
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        Objects.requireNonNull(element);
+        ensureOpen();
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException(index);
+
+        ensureCapacity(size + 1);
+        shiftRight(index);
+        codec.write(chunk(index), offset(index), element);
+        size++;
+    }
+
+    /**
+     * Increases the capacity of the list, if necessary, so it can hold at least provided number of elements
+     * without allocating memory.
+     *
+     * @param minCapacity the desired minimum capacity
+     * @throws IllegalArgumentException if the capacity exceeds the number of elements that can be indexed by an int
+     */
+    public void ensureCapacity(int minCapacity) {
+        ensureOpen();
+        if (minCapacity <= capacity) return;
+        if (minCapacity > maxCapacity()) {
+            throw new IllegalArgumentException("Capacity " + minCapacity + " exceeds maximum " + maxCapacity());
+        }
+
+        final int chunkCapacity = chunkMask + 1;
+        if (capacity < chunkCapacity) {
+            final int firstCapacity = (int) Math.min(chunkCapacity,
+                    Math.max(minCapacity, Math.max(capacity * 2L, DEFAULT_CAPACITY)));
+            final var firstChunk = allocate(firstCapacity);
+            if (chunks.length > 0) {
+                firstChunk.put(chunks[0].duplicate().clear());
+                DEALLOCATOR.accept(chunks[0]);
+            }
+            chunks = new ByteBuffer[]{firstChunk};
+            capacity = firstCapacity;
+        }
+        while (capacity < minCapacity) {
+            chunks = Arrays.copyOf(chunks, chunks.length + 1);
+            chunks[chunks.length - 1] = allocate(chunkCapacity);
+            capacity += chunkCapacity;
+        }
+    }
+
+    /**
+     * Chunks are added whole, so the capacity is the largest multiple of the chunk capacity that still fits an int.
+     */
+    private int maxCapacity() {
+        return Integer.MAX_VALUE & ~chunkMask;
+    }
+
+    private ByteBuffer allocate(int elements) {
+        return ByteBuffer.allocateDirect(elements * width).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Retrieves an element by its position index. Every call decodes a new element instance. In case provided index
+     * in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index index of element
+     * @return en element
+     */
+    @Override
+    public T get(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        return codec.read(chunk(index), offset(index));
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getFirst() {
+        ensureOpen();
+        if (size == 0) throw new NoSuchElementException();
+        return codec.read(chunk(0), offset(0));
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getLast() {
+        ensureOpen();
+        if (size == 0) throw new NoSuchElementException();
+        return codec.read(chunk(size - 1), offset(size - 1));
+    }
+
+    /**
+     * Changes the value of the list at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   position of value
+     * @param element a new value
+     */
+    @Override
+    public void set(int index, T element) {
+        Objects.requireNonNull(element);
+        ensureOpen();
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        codec.write(chunk(index), offset(index), element);
+    }
+
+    /**
+     * Removes an elements by its position index shifting all the following elements by one. In case provided index
+     * in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    public T remove(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+
+        final T deletedElement = codec.read(chunk(index), offset(index));
+        shiftLeft(index);
+        size--;
+        return deletedElement;
+    }
+
+    /**
+     * Moves elements {@code [index, size)} one position to the right, starting from the last chunk. Every chunk is
+     * shifted by a single bulk copy, and only the last element of a chunk is copied into the first slot of the next
+     * one. The capacity must already fit one more element.
+     */
+    private void shiftRight(int index) {
+        int end = size;
+        while (end > index) {
+            final int start = Math.max(index, (end - 1) & ~chunkMask);
+            if ((end & chunkMask) == 0) {
+                copy(end - 1, end);
+                move(start, start + 1, end - 1 - start);
+            } else {
+                move(start, start + 1, end - start);
+            }
+            end = start;
+        }
+    }
+
+    /**
+     * Moves elements {@code [index + 1, size)} one position to the left, starting from the chunk of the index. Every
+     * chunk is shifted by a single bulk copy, and only the first element of the next chunk is copied into the last
+     * slot of the current one.
+     */
+    private void shiftLeft(int index) {
+        int start = index;
+        while (start < size - 1) {
+            final int nextChunkStart = (start | chunkMask) + 1;
+            if (nextChunkStart < size) {
+                move(start + 1, start, nextChunkStart - 1 - start);
+                copy(nextChunkStart, nextChunkStart - 1);
+                start = nextChunkStart;
+            } else {
+                move(start + 1, start, size - 1 - start);
+                start = size - 1;
+            }
+        }
+    }
+
+    /**
+     * Copies a number of elements within the chunk of the source index, source and target ranges may overlap.
+     * {@link ByteBuffer#put(ByteBuffer)} is only specified to behave like a forward loop, which is safe when the
+     * target is before the source. Otherwise, the range is copied back to front in blocks through a heap buffer.
+     */
+    private void move(int fromIndex, int toIndex, int count) {
+        if (count == 0) return;
+
+        final var chunk = chunk(fromIndex);
+        final int fromOffset = offset(fromIndex);
+        final int toOffset = offset(toIndex);
+        final int bytes = count * width;
+        if (toOffset < fromOffset) {
+            final var source = chunk.duplicate().limit(fromOffset + bytes).position(fromOffset);
+            chunk.duplicate().position(toOffset).put(source);
+            return;
+        }
+        if (null == scratch) scratch = new byte[SCRATCH_BYTES];
+        final var source = chunk.duplicate();
+        final var target = chunk.duplicate();
+        for (int end = bytes; end > 0; ) {
+            final int length = Math.min(SCRATCH_BYTES, end);
+            end -= length;
+            source.position(fromOffset + end);
+            source.get(scratch, 0, length);
+            target.position(toOffset + end);
+            target.put(scratch, 0, length);
+        }
+    }
+
+    private void copy(int fromIndex, int toIndex) {
+        final var from = chunk(fromIndex);
+        final var to = chunk(toIndex);
+        final int fromOffset = offset(fromIndex);
+        final int toOffset = offset(toIndex);
+        int copied = 0;
+        for (; copied + Long.BYTES <= width; copied += Long.BYTES) {
+            to.putLong(toOffset + copied, from.getLong(fromOffset + copied));
+        }
+        for (; copied < width; copied++) {
+            to.put(toOffset + copied, from.get(fromOffset + copied));
+        }
+    }
+
+    /**
+     * Checks for existing of a specific element in the list. The element is compared by
+     * {@link ElementCodec#matches(ByteBuffer, int, Object)}, so built-in codecs do not decode stored elements.
+     *
+     * @param element is element
+     * @return If element exists method returns true, otherwise it returns false
+     */
+    @Override
+    public boolean contains(T element) {
+        ensureOpen();
+        if (element == null) return false;
+
+        for (int i = 0; i < size; i++) {
+            if (codec.matches(chunk(i), offset(i), element)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return amount of saved elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements. Allocated memory is kept for new elements, use {@link #close()} to release it.
+     */
+    @Override
+    public void clear() {
+        ensureOpen();
+        size = 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        ensureOpen();
+        return new Iterator<>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public T next() {
+                ensureOpen();
+                if (cursor >= size) throw new NoSuchElementException();
+                final T element = codec.read(chunk(cursor), offset(cursor));
+                cursor++;
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Releases the off-heap memory of the list right away instead of waiting for the garbage collector to discover
+     * unreachable buffers. Calling it more than once has no effect.
+     * <p>
+     * Codecs receive the chunks themselves rather than copies, so a codec that kept a chunk or a view of it would
+     * access freed memory after this call. {@link ElementCodec} forbids keeping them.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+
+        closed = true;
+        for (var chunk : chunks) {
+            DEALLOCATOR.accept(chunk);
+        }
+        chunks = new ByteBuffer[0];
+        capacity = size = 0;
+    }
+
+    private ByteBuffer chunk(int index) {
+        return chunks[index >>> chunkShift];
+    }
+
+    private int offset(int index) {
+        return (index & chunkMask) * width;
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("List is closed");
+    }
+
+    /**
+     * Direct buffers are freed by a cleaner once they become unreachable. {@code sun.misc.Unsafe#invokeCleaner} runs
+     * it right away, when it is not accessible the memory is left to the garbage collector.
+     */
+    private static Consumer<ByteBuffer> findDeallocator() {
+        try {
+            final var unsafeClass = Class.forName("sun.misc.Unsafe");
+            final var theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            final Object unsafe = theUnsafe.get(null);
+            final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            return buffer -> {
+                try {
+                    invokeCleaner.invoke(unsafe, buffer);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return buffer -> {
+            };
+        }
+    }
+}
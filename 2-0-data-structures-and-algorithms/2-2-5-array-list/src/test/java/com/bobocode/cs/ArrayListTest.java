@@ -7,7 +7,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 import java.lang.reflect.Field;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
@@ -361,6 +365,182 @@ class ArrayListTest {
                 .isThrownBy(() -> arrayList.get(0));
     }
 
+    @Test
+    @Order(37)
+    void ensureCapacityGrowsInternalArray() {
+        fillTestArray(4, 5, 6);
+
+        ((ArrayList<Integer>) arrayList).ensureCapacity(100);
+
+        assertThat(getTestArray().length).isGreaterThanOrEqualTo(100);
+        assertThat(arrayList.size()).isEqualTo(3);
+        assertThat(arrayList.get(2)).isEqualTo(6);
+    }
+
+    @Test
+    @Order(38)
+    void trimToSizeShrinksInternalArray() {
+        arrayList = new ArrayList<>(100);
+        arrayList.add(4);
+        arrayList.add(5);
+
+        ((ArrayList<Integer>) arrayList).trimToSize();
+
+        assertThat(getTestArray().length).isEqualTo(2);
+        assertThat(arrayList.get(1)).isEqualTo(5);
+    }
+
+    @Test
+    @Order(39)
+    void addAfterTrimToSizeOfEmptyList() {
+        ((ArrayList<Integer>) arrayList).trimToSize();
+
+        arrayList.add(4);
+        arrayList.add(0, 3);
+
+        assertThat(arrayList.get(0)).isEqualTo(3);
+        assertThat(arrayList.get(1)).isEqualTo(4);
+    }
+
+    @Test
+    @Order(40)
+    void addAndRemoveByIndexShiftElements() {
+        fillTestArray(1, 2, 4, 5);
+
+        arrayList.add(2, 3);
+        assertThat(getTestArray()).startsWith(1, 2, 3, 4, 5);
+
+        assertThat(arrayList.remove(0)).isEqualTo(1);
+        assertThat(getTestArray()).startsWith(2, 3, 4, 5, null);
+        assertThat(arrayList.size()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(41)
+    void iteratorVisitsElementsInOrder() {
+        fillTestArray(1, 2, 3);
+
+        java.util.List<Integer> visited = new java.util.ArrayList<>();
+        for (Integer element : arrayList) {
+            visited.add(element);
+        }
+
+        assertThat(visited).isEqualTo(java.util.List.of(1, 2, 3));
+    }
+
+    @Test
+    @Order(42)
+    void iteratorRemove() {
+        fillTestArray(1, 2, 3, 4);
+
+        Iterator<Integer> iterator = arrayList.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) iterator.remove();
+        }
+
+        assertThat(arrayList.size()).isEqualTo(2);
+        assertThat(getTestArray()).startsWith(1, 3, null);
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(iterator::remove);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(43)
+    void spliteratorIsSizedAndCoversOnlyStoredElements() {
+        fillTestArray(1, 2, 3);
+
+        Spliterator<Integer> spliterator = arrayList.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED))
+                .isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(3);
+        assertThat(arrayList.stream().collect(Collectors.toList())).isEqualTo(java.util.List.of(1, 2, 3));
+    }
+
+    @Test
+    @Order(44)
+    void parallelStreamKeepsEncounterOrder() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            list.add(i);
+        }
+
+        assertThat(list.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(49_995_000L);
+        assertThat(list.parallelStream().skip(9_998).collect(Collectors.toList()))
+                .isEqualTo(java.util.List.of(9_998, 9_999));
+    }
+
+    @Test
+    @Order(45)
+    void addAllGrowsInnerArrayOnce() {
+        arrayList.add(1);
+
+        arrayList.addAll(new Integer[]{2, 3, 4, 5, 6, 7, 8});
+        arrayList.addAll(java.util.List.of(9, 10));
+
+        assertThat(arrayList.size()).isEqualTo(10);
+        assertThat(getTestArray()).startsWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Test
+    @Order(46)
+    void ofEmptyArray() {
+        arrayList = ArrayList.of();
+
+        arrayList.add(1);
+
+        assertThat(arrayList.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(47)
+    void removeIfCompactsElements() {
+        fillTestArray(1, 2, 3, 4, 5);
+
+        boolean removed = arrayList.removeIf(element -> element % 2 == 0);
+
+        assertThat(removed).isTrue();
+        assertThat(arrayList.size()).isEqualTo(3);
+        assertThat(getTestArray()).startsWith(1, 3, 5, null, null);
+        assertThat(arrayList.removeIf(element -> element > 10)).isFalse();
+    }
+
+    @Test
+    @Order(48)
+    void removeIfKeepsUntestedElementsWhenPredicateThrows() {
+        fillTestArray(1, 2, 3, 4, 5);
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> arrayList.removeIf(element -> {
+            if (element == 4) throw new IllegalStateException();
+            return element == 2;
+        }));
+
+        assertThat(arrayList.size()).isEqualTo(4);
+        assertThat(getTestArray()).startsWith(1, 3, 4, 5, null);
+    }
+
+    @Test
+    @Order(49)
+    void sort() {
+        fillTestArray(3, 1, 2);
+
+        arrayList.sort(null);
+        assertThat(getTestArray()).startsWith(1, 2, 3);
+
+        arrayList.sort(Comparator.reverseOrder());
+        assertThat(getTestArray()).startsWith(3, 2, 1);
+    }
+
+    @Test
+    @Order(50)
+    void removeIfThrowsExceptionWhenFilterIsNull() {
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> arrayList.removeIf(null));
+
+        fillTestArray(1, 2, 3);
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> arrayList.removeIf(null));
+        assertThat(arrayList.size()).isEqualTo(3);
+    }
+
     @SneakyThrows
     private void setTestSize(int size) {
         Field sizeField = arrayList.getClass().getDeclaredField("size");
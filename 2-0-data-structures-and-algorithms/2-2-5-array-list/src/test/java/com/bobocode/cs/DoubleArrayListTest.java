@@ -0,0 +1,45 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DoubleArrayListTest {
+
+    @Test
+    void containsFindsNaN() {
+        DoubleArrayList list = DoubleArrayList.of(1.0, Double.NaN);
+
+        assertThat(list.contains(Double.NaN)).isTrue();
+    }
+
+    @Test
+    void containsDistinguishesSignedZeros() {
+        DoubleArrayList list = DoubleArrayList.of(0.0);
+
+        assertThat(list.contains(0.0)).isTrue();
+        assertThat(list.contains(-0.0)).isFalse();
+    }
+
+    @Test
+    void streamAggregatesWithoutBoxing() {
+        DoubleArrayList list = new DoubleArrayList();
+        for (int i = 1; i <= 4; i++) {
+            list.add(i * 0.5);
+        }
+
+        assertThat(list.stream().sum()).isCloseTo(5.0, within(1e-9));
+        assertThat(list.stream().max().getAsDouble()).isEqualTo(2.0);
+    }
+
+    @Test
+    void removeAndAddByIndex() {
+        DoubleArrayList list = DoubleArrayList.of(1.5, 2.5, 3.5);
+
+        assertThat(list.remove(0)).isEqualTo(1.5);
+        list.add(1, 3.0);
+
+        assertThat(list.stream().toArray()).containsExactly(2.5, 3.0, 3.5);
+    }
+}
@@ -0,0 +1,168 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class IntArrayListTest {
+
+    private final IntArrayList intList = new IntArrayList();
+
+    @Test
+    @Order(1)
+    void addAndGet() {
+        intList.add(10);
+        intList.add(15);
+        intList.add(20);
+
+        assertThat(intList.size()).isEqualTo(3);
+        assertThat(intList.get(0)).isEqualTo(10);
+        assertThat(intList.get(1)).isEqualTo(15);
+        assertThat(intList.get(2)).isEqualTo(20);
+    }
+
+    @Test
+    @Order(2)
+    void addGrowsBeyondDefaultCapacity() {
+        for (int i = 0; i < 1000; i++) {
+            intList.add(i);
+        }
+
+        assertThat(intList.size()).isEqualTo(1000);
+        assertThat(intList.getFirst()).isEqualTo(0);
+        assertThat(intList.getLast()).isEqualTo(999);
+    }
+
+    @Test
+    @Order(3)
+    void addByIndexShiftsElements() {
+        IntArrayList list = IntArrayList.of(1, 2, 4);
+
+        list.add(2, 3);
+        list.add(0, 0);
+        list.add(5, 5);
+
+        assertThat(list.stream().toArray()).containsExactly(0, 1, 2, 3, 4, 5);
+    }
+
+    @Test
+    @Order(4)
+    void addByIndexOutOfBounds() {
+        IntArrayList list = IntArrayList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.add(3, 0));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.add(-1, 0));
+    }
+
+    @Test
+    @Order(5)
+    void getOutOfBounds() {
+        IntArrayList list = IntArrayList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.get(2));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.get(-1));
+    }
+
+    @Test
+    @Order(6)
+    void getFirstAndLastOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(intList::getFirst);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(intList::getLast);
+    }
+
+    @Test
+    @Order(7)
+    void set() {
+        IntArrayList list = IntArrayList.of(1, 2, 3);
+
+        list.set(1, 20);
+
+        assertThat(list.get(1)).isEqualTo(20);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.set(3, 0));
+    }
+
+    @Test
+    @Order(8)
+    void remove() {
+        IntArrayList list = IntArrayList.of(1, 2, 3, 4);
+
+        assertThat(list.remove(1)).isEqualTo(2);
+        assertThat(list.remove(2)).isEqualTo(4);
+
+        assertThat(list.size()).isEqualTo(2);
+        assertThat(list.stream().toArray()).containsExactly(1, 3);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.remove(2));
+    }
+
+    @Test
+    @Order(9)
+    void contains() {
+        IntArrayList list = IntArrayList.of(1, 2, 3);
+        list.remove(2);
+
+        assertThat(list.contains(2)).isTrue();
+        assertThat(list.contains(3)).isFalse();
+        assertThat(list.contains(0)).isFalse();
+    }
+
+    @Test
+    @Order(10)
+    void clear() {
+        IntArrayList list = IntArrayList.of(1, 2, 3);
+
+        list.clear();
+
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.contains(1)).isFalse();
+        assertThat(list.stream().count()).isZero();
+    }
+
+    @Test
+    @Order(11)
+    void ofEmptyArray() {
+        IntArrayList list = IntArrayList.of();
+
+        list.add(7);
+
+        assertThat(list.size()).isEqualTo(1);
+        assertThat(list.get(0)).isEqualTo(7);
+    }
+
+    @Test
+    @Order(12)
+    void streamCoversOnlyStoredElements() {
+        IntArrayList list = new IntArrayList(100);
+        list.add(1);
+        list.add(2);
+        list.add(3);
+
+        assertThat(list.stream().sum()).isEqualTo(6);
+        assertThat(list.stream().toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(13)
+    void ensureCapacityAndTrimToSizeKeepElements() {
+        IntArrayList list = IntArrayList.of(1, 2, 3);
+
+        list.ensureCapacity(1000);
+        list.add(4);
+        list.trimToSize();
+        list.add(5);
+
+        assertThat(list.stream().toArray()).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    @Order(14)
+    void constructorWithNonPositiveCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new IntArrayList(0));
+    }
+}
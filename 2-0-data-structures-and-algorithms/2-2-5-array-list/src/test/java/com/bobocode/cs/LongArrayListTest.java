@@ -0,0 +1,30 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class LongArrayListTest {
+
+    @Test
+    void storesValuesOutsideIntRange() {
+        LongArrayList list = new LongArrayList();
+        list.add(Long.MAX_VALUE);
+        list.add(0, Long.MIN_VALUE);
+
+        assertThat(list.getFirst()).isEqualTo(Long.MIN_VALUE);
+        assertThat(list.getLast()).isEqualTo(Long.MAX_VALUE);
+        assertThat(list.contains(Long.MAX_VALUE)).isTrue();
+        assertThat(list.contains((long) Integer.MAX_VALUE)).isFalse();
+    }
+
+    @Test
+    void streamAndRemove() {
+        LongArrayList list = LongArrayList.of(1L, 2L, 3L, 4L);
+
+        assertThat(list.remove(3)).isEqualTo(4L);
+        assertThat(list.stream().sum()).isEqualTo(6L);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.get(3));
+    }
+}
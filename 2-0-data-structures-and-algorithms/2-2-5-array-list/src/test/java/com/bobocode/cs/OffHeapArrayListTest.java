@@ -0,0 +1,284 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class OffHeapArrayListTest {
+
+    private static final int SMALL_CHUNK_BYTES = 64;
+
+    private final OffHeapArrayList<Long> longList = new OffHeapArrayList<>(ElementCodec.LONG, SMALL_CHUNK_BYTES);
+
+    @AfterEach
+    void tearDown() {
+        longList.close();
+    }
+
+    @Test
+    @Order(1)
+    void addAndGetAcrossChunks() {
+        for (long i = 0; i < 100; i++) {
+            longList.add(i * 10);
+        }
+
+        assertThat(longList.size()).isEqualTo(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(longList.get(i)).isEqualTo(i * 10L);
+        }
+        assertThat(longList.getFirst()).isEqualTo(0L);
+        assertThat(longList.getLast()).isEqualTo(990L);
+    }
+
+    @Test
+    @Order(2)
+    void addByIndexShiftsElementsAcrossChunks() {
+        for (long i = 0; i < 20; i++) {
+            longList.add(i);
+        }
+
+        longList.add(0, -1L);
+        longList.add(10, -2L);
+        longList.add(22, -3L);
+
+        assertThat(longList.stream().collect(Collectors.toList())).isEqualTo(java.util.List.of(
+                -1L, 0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, -2L, 9L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L,
+                -3L));
+    }
+
+    @Test
+    @Order(3)
+    void removeShiftsElementsAcrossChunks() {
+        for (long i = 0; i < 20; i++) {
+            longList.add(i);
+        }
+
+        assertThat(longList.remove(0)).isEqualTo(0L);
+        assertThat(longList.remove(8)).isEqualTo(9L);
+        assertThat(longList.remove(17)).isEqualTo(19L);
+
+        assertThat(longList.stream().collect(Collectors.toList())).isEqualTo(java.util.List.of(
+                1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L));
+    }
+
+    @Test
+    @Order(4)
+    void setAndContains() {
+        longList.add(1L);
+        longList.add(2L);
+
+        longList.set(1, Long.MAX_VALUE);
+
+        assertThat(longList.contains(Long.MAX_VALUE)).isTrue();
+        assertThat(longList.contains(2L)).isFalse();
+        assertThat(longList.contains(null)).isFalse();
+    }
+
+    @Test
+    @Order(5)
+    void outOfBoundsAccess() {
+        longList.add(1L);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> longList.get(1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> longList.set(-1, 0L));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> longList.add(2, 0L));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> longList.remove(1));
+    }
+
+    @Test
+    @Order(6)
+    void nullElementsAreRejected() {
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> longList.add(null));
+    }
+
+    @Test
+    @Order(7)
+    void emptyList() {
+        assertThat(longList.isEmpty()).isTrue();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(longList::getFirst);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(longList::getLast);
+    }
+
+    @Test
+    @Order(8)
+    void clearKeepsListUsable() {
+        longList.add(1L);
+        longList.add(2L);
+
+        longList.clear();
+        longList.add(3L);
+
+        assertThat(longList.size()).isEqualTo(1);
+        assertThat(longList.get(0)).isEqualTo(3L);
+    }
+
+    @Test
+    @Order(9)
+    void closeReleasesList() {
+        longList.add(1L);
+
+        longList.close();
+        longList.close();
+
+        assertThat(longList.size()).isEqualTo(0);
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> longList.add(2L));
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> longList.get(0));
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(longList::iterator);
+    }
+
+    @Test
+    @Order(10)
+    void ofWithDefaultChunkSize() {
+        try (var list = OffHeapArrayList.of(ElementCodec.DOUBLE, 0.5, Double.NaN, -0.0)) {
+            assertThat(list.size()).isEqualTo(3);
+            assertThat(list.contains(Double.NaN)).isTrue();
+            assertThat(list.contains(0.0)).isFalse();
+            assertThat(list.getLast()).isEqualTo(-0.0);
+        }
+    }
+
+    @Test
+    @Order(11)
+    void customStructCodec() {
+        try (var list = new OffHeapArrayList<>(new PointCodec(), SMALL_CHUNK_BYTES)) {
+            for (int i = 0; i < 50; i++) {
+                list.add(new Point(i, -i));
+            }
+            list.remove(0);
+
+            assertThat(list.get(0)).isEqualTo(new Point(1, -1));
+            assertThat(list.getLast()).isEqualTo(new Point(49, -49));
+            assertThat(list.contains(new Point(25, -25))).isTrue();
+            assertThat(list.contains(new Point(25, 25))).isFalse();
+        }
+    }
+
+    @Test
+    @Order(12)
+    void parallelStreamSum() {
+        for (long i = 0; i < 10_000; i++) {
+            longList.add(i);
+        }
+
+        assertThat(longList.parallelStream().mapToLong(Long::longValue).sum())
+                .isEqualTo(LongStream.range(0, 10_000).sum());
+    }
+
+    @Test
+    @Order(13)
+    void addAndRemoveByIndexMatchJdkList() {
+        var expected = new java.util.ArrayList<Long>();
+        var random = new java.util.Random(42);
+        for (long i = 0; i < 1_000; i++) {
+            int index = random.nextInt(expected.size() + 1);
+            expected.add(index, i);
+            longList.add(index, i);
+            if (i % 3 == 0) {
+                int removedIndex = random.nextInt(expected.size());
+                assertThat(longList.remove(removedIndex)).isEqualTo(expected.remove(removedIndex));
+            }
+        }
+
+        assertThat(longList.stream().collect(Collectors.toList())).isEqualTo(expected);
+    }
+
+    @Test
+    @Order(14)
+    void capacityAboveIntIndexableCountIsRejected() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> longList.ensureCapacity(Integer.MAX_VALUE));
+        assertThat(longList.size()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(15)
+    void addIntoMiddleOfFullChunkKeepsEveryElement() {
+        for (long i = 0; i < 8; i++) {
+            longList.add(i);
+        }
+
+        longList.add(4, -1L);
+
+        assertThat(longList.stream().collect(Collectors.toList())).isEqualTo(java.util.List.of(
+                0L, 1L, 2L, 3L, -1L, 4L, 5L, 6L, 7L));
+    }
+
+    @Test
+    @Order(16)
+    void addIntoMiddleOfFullLargeChunkKeepsEveryElement() {
+        int chunkBytes = 1 << 20;
+        int chunkCapacity = chunkBytes / Long.BYTES;
+        try (var list = new OffHeapArrayList<>(ElementCodec.LONG, chunkBytes)) {
+            for (long i = 0; i < chunkCapacity; i++) {
+                list.add(i);
+            }
+
+            list.add(10, -1L);
+            list.remove(chunkCapacity / 2);
+
+            assertThat(list.size()).isEqualTo(chunkCapacity);
+            for (int i = 0; i < chunkCapacity; i++) {
+                long expected = i < 10 ? i : i == 10 ? -1L : i < chunkCapacity / 2 ? i - 1 : i;
+                assertThat(list.get(i)).isEqualTo(expected);
+            }
+        }
+    }
+
+    private static final class Point {
+        private final int x;
+        private final int y;
+
+        Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Point)) return false;
+            Point point = (Point) o;
+            return x == point.x && y == point.y;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(x, y);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + x + ", " + y + ")";
+        }
+    }
+
+    private static final class PointCodec implements ElementCodec<Point> {
+        @Override
+        public int width() {
+            return 2 * Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Point element) {
+            buffer.putInt(offset, element.x);
+            buffer.putInt(offset + Integer.BYTES, element.y);
+        }
+
+        @Override
+        public Point read(ByteBuffer buffer, int offset) {
+            return new Point(buffer.getInt(offset), buffer.getInt(offset + Integer.BYTES));
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.bobocode.cs;
 
+import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface BinarySearchTree<T extends Comparable<T>> {
     /**
-     * insert an element
+     * insert an element (optional operation); immutable trees, such as {@link EytzingerBinarySearchTree}, are built
+     * from all their elements at once and do not support it
      * @return true if element did not exist in the tree and was inserted successfully
+     * @throws UnsupportedOperationException if the tree does not support insertion
      */
     boolean insert(T element);
 
@@ -29,4 +34,55 @@ public interface BinarySearchTree<T extends Comparable<T>> {
      * @param consumer accepts ref. to node during traversing
      */
     void inOrderTraversal(Consumer<T> consumer);
+
+    /**
+     * @return the greatest element less than or equal to the given one; null - if there is no such element
+     */
+    T floor(T element);
+
+    /**
+     * @return the least element greater than or equal to the given one; null - if there is no such element
+     */
+    T ceiling(T element);
+
+    /**
+     * traverse elements between from and to (both inclusive) in element's natural order, skipping subtrees that are
+     * out of the range, so it takes O(log n + k) for k traversed elements in a balanced tree
+     * @param consumer accepts elements during traversing
+     */
+    default void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        spliterator(from, to).forEachRemaining(consumer);
+    }
+
+    /**
+     * @return a lazy spliterator over all elements in element's natural order
+     */
+    Spliterator<T> spliterator();
+
+    /**
+     * @return a lazy spliterator over elements between from and to (both inclusive) in element's natural order
+     */
+    Spliterator<T> spliterator(T from, T to);
+
+    /**
+     * @return a sequential stream of all elements in element's natural order
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return a parallel stream of all elements; it is split at subtree boundaries and keeps element's natural order,
+     * so it can be used for an in-order reduction
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * @return a sequential stream of elements between from and to (both inclusive) in element's natural order
+     */
+    default Stream<T> stream(T from, T to) {
+        return StreamSupport.stream(spliterator(from, to), false);
+    }
 }
@@ -0,0 +1,65 @@
+package com.bobocode.cs;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link BoundedSpliterator} is a sequential {@link Spliterator} over a sorted sequence of linked nodes, e.g. the
+ * bottom list of a skip list. It starts from the node of the first element in the range, moves to the next node after
+ * each element, and stops on the first element that is greater than the upper bound.
+ * <p>
+ * Node type is not known to the spliterator, so it accesses nodes by provided functions. A {@code null} node is the
+ * end of the sequence. Array-based trees keep their own spliterators over int indices, so they do not box a cursor.
+ *
+ * @param <N> a type of nodes
+ * @param <T> a type of elements
+ */
+class BoundedSpliterator<N, T extends Comparable<T>> extends Spliterators.AbstractSpliterator<T> {
+    private final UnaryOperator<N> next;
+    private final Function<N, T> value;
+    private final T to;
+    private N node;
+
+    /**
+     * Creates a spliterator over elements from the first node to an upper bound. It always reports
+     * {@link Spliterator#ORDERED}, {@link Spliterator#SORTED}, {@link Spliterator#DISTINCT} and
+     * {@link Spliterator#NONNULL} in natural order.
+     *
+     * @param first           a node of the first element or null if the range is empty
+     * @param estimatedSize   an estimated number of elements in the range
+     * @param characteristics additional characteristics, e.g. {@link Spliterator#CONCURRENT}
+     * @param to              an upper bound (inclusive) or null if there is no upper bound
+     * @param next            a function that returns the next node or null after the last one
+     * @param value           a function that returns an element of a node
+     */
+    BoundedSpliterator(N first, long estimatedSize, int characteristics, T to,
+                       UnaryOperator<N> next, Function<N, T> value) {
+        super(estimatedSize, ORDERED | SORTED | DISTINCT | NONNULL | characteristics);
+        this.node = first;
+        this.to = to;
+        this.next = next;
+        this.value = value;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (null == node) return false;
+        final var element = value.apply(node);
+        if (null != to && element.compareTo(to) > 0) {
+            node = null;
+            return false;
+        }
+        node = next.apply(node);
+        action.accept(element);
+        return true;
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+        return null;
+    }
+}
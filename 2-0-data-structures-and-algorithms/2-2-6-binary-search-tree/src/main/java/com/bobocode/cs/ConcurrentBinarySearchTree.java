@@ -0,0 +1,179 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * {@link ConcurrentBinarySearchTree} is a thread-safe lock-free implementation of a {@link BinarySearchTree}. Since
+ * the tree supports only insertions, a node is never moved or unlinked once it is reachable. Therefore, a new node is
+ * published with a single compare-and-set of an empty child reference, and a thread that loses the race simply
+ * continues its descent from the node that won.
+ * <p>
+ * {@link ConcurrentBinarySearchTree#contains(Comparable)} never retries and never waits for other threads, it just
+ * reads child references, so it is wait-free. Traversals are weakly consistent: they never fail, and observe all
+ * elements inserted before they started and possibly some inserted concurrently.
+ * <p>
+ * The tree is not balanced, so like {@link RecursiveBinarySearchTree} it degrades on sorted input.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class ConcurrentBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private static final VarHandle ROOT;
+
+    static {
+        try {
+            ROOT = MethodHandles.lookup().findVarHandle(ConcurrentBinarySearchTree.class, "root", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<T> root;
+    private final LongAdder size = new LongAdder();
+
+    @SafeVarargs
+    public static <T extends Comparable<T>> ConcurrentBinarySearchTree<T> of(T... elements) {
+        final var tree = new ConcurrentBinarySearchTree<T>();
+        for (var element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        final var newNode = new Node<>(element);
+        var node = root;
+        if (null == node) {
+            if (ROOT.compareAndSet(this, null, newNode)) {
+                size.increment();
+                return true;
+            }
+            node = root;
+        }
+        while (true) {
+            final int comparison = element.compareTo(node.value);
+            if (comparison == 0) return false;
+            final var child = comparison < 0 ? node.left : node.right;
+            if (null != child) {
+                node = child;
+            } else if (node.casChild(comparison < 0, newNode)) {
+                size.increment();
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        var node = root;
+        while (null != node) {
+            final int comparison = element.compareTo(node.value);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                node = node.right;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size.intValue();
+    }
+
+    /**
+     * Calculates tree depth level by level, so it does not overflow a call stack on degenerate trees.
+     */
+    @Override
+    public int depth() {
+        final var rootNode = root;
+        if (null == rootNode) return 0;
+        final var level = new ArrayDeque<Node<T>>();
+        level.add(rootNode);
+        int depth = -1;
+        while (!level.isEmpty()) {
+            depth++;
+            for (int i = level.size(); i > 0; i--) {
+                final var node = level.poll();
+                final var left = node.left;
+                final var right = node.right;
+                if (null != left) level.add(left);
+                if (null != right) level.add(right);
+            }
+        }
+        return depth;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        spliterator().forEachRemaining(consumer);
+    }
+
+    @Override
+    public T floor(T element) {
+        return TreeSearch.floor(root, element, node -> node.left, node -> node.right, node -> node.value);
+    }
+
+    @Override
+    public T ceiling(T element) {
+        return TreeSearch.ceiling(root, element, node -> node.left, node -> node.right, node -> node.value);
+    }
+
+    /**
+     * @return a weakly consistent spliterator, that reports {@link Spliterator#CONCURRENT}
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new TreeSpliterator<>(root, size(), true, null, null,
+                node -> node.left, node -> node.right, node -> node.value);
+    }
+
+    /**
+     * @return a weakly consistent spliterator, that reports {@link Spliterator#CONCURRENT}
+     */
+    @Override
+    public Spliterator<T> spliterator(T from, T to) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        return new TreeSpliterator<>(root, size(), true, from, to,
+                node -> node.left, node -> node.right, node -> node.value);
+    }
+
+    static class Node<T> {
+        private static final VarHandle LEFT;
+        private static final VarHandle RIGHT;
+
+        static {
+            try {
+                final var lookup = MethodHandles.lookup();
+                LEFT = lookup.findVarHandle(Node.class, "left", Node.class);
+                RIGHT = lookup.findVarHandle(Node.class, "right", Node.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final T value;
+        private volatile Node<T> left;
+        private volatile Node<T> right;
+
+        public Node(T value) {
+            this.value = value;
+        }
+
+        private boolean casChild(boolean isLeft, Node<T> child) {
+            return (isLeft ? LEFT : RIGHT).compareAndSet(this, null, child);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * {@link ConcurrentSkipList} is a thread-safe lock-free implementation of a {@link BinarySearchTree} based on a
+ * {@link SkipList}. Like {@link ConcurrentBinarySearchTree}, it supports only insertions, so a node is never unlinked
+ * once it is reachable, and a forward reference only changes from a node to a new node inserted right before it.
+ * <p>
+ * A new node is linked bottom-up, one level at a time, with a compare-and-set of the forward reference of its
+ * predecessor. Once it is linked on the bottom level, the element belongs to the skip list; upper levels only make
+ * searches faster. A thread that loses a race on some level searches for the predecessors on that level again and
+ * retries. Searches never write and never wait, so {@link ConcurrentSkipList#contains(Comparable)} is wait-free.
+ * Unlike {@link ConcurrentBinarySearchTree}, it does not degrade on sorted input.
+ * <p>
+ * Traversals are weakly consistent: they never fail, and observe all elements inserted before they started and
+ * possibly some inserted concurrently.
+ *
+ * @param <T> a type of elements that are stored in the skip list
+ */
+public class ConcurrentSkipList<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private static final VarHandle NEXT = MethodHandles.arrayElementVarHandle(Node[].class);
+    private static final VarHandle LEVEL;
+
+    static {
+        try {
+            LEVEL = MethodHandles.lookup().findVarHandle(ConcurrentSkipList.class, "level", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Node<T> head = new Node<>(null, SkipList.MAX_LEVEL);
+    private final LongAdder size = new LongAdder();
+    private final double probability;
+    private volatile int level = 1;
+
+    /**
+     * Creates an empty skip list where a node gets every next level with probability 1/4.
+     */
+    public ConcurrentSkipList() {
+        this(SkipList.DEFAULT_PROBABILITY);
+    }
+
+    /**
+     * Creates an empty skip list.
+     *
+     * @param probability the probability of a node to get every next level, from 0 to 1 exclusive
+     * @throws IllegalArgumentException if the probability is not in (0, 1)
+     */
+    public ConcurrentSkipList(double probability) {
+        if (!(probability > 0 && probability < 1)) {
+            throw new IllegalArgumentException("Invalid probability " + probability);
+        }
+        this.probability = probability;
+    }
+
+    @SafeVarargs
+    public static <T extends Comparable<T>> ConcurrentSkipList<T> of(T... elements) {
+        final var skipList = new ConcurrentSkipList<T>();
+        for (var element : elements) {
+            skipList.insert(element);
+        }
+        return skipList;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        final int height = randomHeight();
+        final var newNode = new Node<>(element, height);
+        final Node<T>[] predecessors = newTower(Math.max(height, level));
+
+        var predecessor = findPredecessors(element, predecessors);
+        while (true) {
+            final var successor = predecessor.next(0);
+            final int comparison = null != successor ? successor.value.compareTo(element) : 1;
+            if (comparison == 0) return false;
+            if (comparison < 0) {
+                predecessor = successor;
+                continue;
+            }
+            newNode.next[0] = successor;
+            if (predecessor.casNext(0, successor, newNode)) break;
+        }
+        size.increment();
+
+        raiseLevel(height);
+        for (int i = 1; i < height; i++) {
+            link(newNode, null != predecessors[i] ? predecessors[i] : head, i);
+        }
+        return true;
+    }
+
+    /**
+     * Links a node on an upper level. The successor that is checked against the element must be the same one that the
+     * compare-and-set expects, otherwise a node inserted in between could end up after the new node.
+     */
+    private void link(Node<T> newNode, Node<T> predecessor, int i) {
+        while (true) {
+            final var successor = predecessor.next(i);
+            if (null != successor && successor.value.compareTo(newNode.value) < 0) {
+                predecessor = successor;
+                continue;
+            }
+            newNode.next[i] = successor;
+            if (predecessor.casNext(i, successor, newNode)) return;
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        final var candidate = lowerNode(element).next(0);
+        return null != candidate && candidate.value.compareTo(element) == 0;
+    }
+
+    @Override
+    public int size() {
+        return size.intValue();
+    }
+
+    /**
+     * @return the number of express levels above the bottom list; 0 - if the skip list has a single level
+     */
+    @Override
+    public int depth() {
+        return level - 1;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        for (var node = head.next(0); null != node; node = node.next(0)) {
+            consumer.accept(node.value);
+        }
+    }
+
+    @Override
+    public T floor(T element) {
+        Objects.requireNonNull(element);
+        var node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            var next = node.next(i);
+            while (null != next && next.value.compareTo(element) <= 0) {
+                node = next;
+                next = node.next(i);
+            }
+        }
+        return node.value;
+    }
+
+    @Override
+    public T ceiling(T element) {
+        Objects.requireNonNull(element);
+        final var candidate = lowerNode(element).next(0);
+        return null != candidate ? candidate.value : null;
+    }
+
+    /**
+     * @return a weakly consistent spliterator, that reports {@link Spliterator#CONCURRENT}
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new BoundedSpliterator<>(head.next(0), size(), Spliterator.CONCURRENT, null,
+                node -> node.next(0), node -> node.value);
+    }
+
+    /**
+     * @return a weakly consistent spliterator, that reports {@link Spliterator#CONCURRENT}
+     */
+    @Override
+    public Spliterator<T> spliterator(T from, T to) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        return new BoundedSpliterator<>(lowerNode(from).next(0), size(), Spliterator.CONCURRENT, to,
+                node -> node.next(0), node -> node.value);
+    }
+
+    /**
+     * @return the last node with an element less than the given one, or the head if there is no such node
+     */
+    private Node<T> lowerNode(T element) {
+        return findPredecessors(element, null);
+    }
+
+    /**
+     * Descends from the top level and finds the last node with an element less than the given one on every level.
+     *
+     * @param predecessors an array to store the found nodes, or null if only the bottom one is needed
+     * @return the predecessor on the bottom level
+     */
+    private Node<T> findPredecessors(T element, Node<T>[] predecessors) {
+        var node = head;
+        final int top = null != predecessors ? Math.min(level, predecessors.length) : level;
+        for (int i = top - 1; i >= 0; i--) {
+            node = findPredecessor(element, node, i);
+            if (null != predecessors) predecessors[i] = node;
+        }
+        return node;
+    }
+
+    /**
+     * Moves forward on a level from a node with an element less than the given one.
+     *
+     * @return the last node on the level with an element less than the given one
+     */
+    private Node<T> findPredecessor(T element, Node<T> node, int i) {
+        var next = node.next(i);
+        while (null != next && next.value.compareTo(element) < 0) {
+            node = next;
+            next = node.next(i);
+        }
+        return node;
+    }
+
+    /**
+     * Makes searches start from a level that is high enough for a new node. A search that starts lower is still
+     * correct, since every node is linked on the bottom level.
+     */
+    private void raiseLevel(int height) {
+        int current = level;
+        while (current < height && !LEVEL.compareAndSet(this, current, height)) {
+            current = level;
+        }
+    }
+
+    private int randomHeight() {
+        final var random = ThreadLocalRandom.current();
+        int height = 1;
+        while (height < SkipList.MAX_LEVEL && random.nextDouble() < probability) {
+            height++;
+        }
+        return height;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] newTower(int height) {
+        return (Node<T>[]) new Node<?>[height];
+    }
+
+    static class Node<T> {
+        private final T value;
+        private final Node<T>[] next;
+
+        Node(T value, int height) {
+            this.value = value;
+            this.next = newTower(height);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Node<T> next(int level) {
+            return (Node<T>) NEXT.getAcquire(next, level);
+        }
+
+        private boolean casNext(int level, Node<T> expected, Node<T> node) {
+            return NEXT.compareAndSet(next, level, expected, node);
+        }
+    }
+}
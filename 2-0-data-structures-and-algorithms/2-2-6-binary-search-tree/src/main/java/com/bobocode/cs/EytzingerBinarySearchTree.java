@@ -0,0 +1,232 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * {@link EytzingerBinarySearchTree} is an immutable implementation of a {@link BinarySearchTree} for read-mostly
+ * workloads. It is built once from all the elements, and stores them in a flat array using Eytzinger layout (the one
+ * used by a binary heap): the root is stored at index 1, and children of a node at index {@code k} are stored at
+ * indices {@code 2k} and {@code 2k + 1}. Such tree is always complete, so its depth is {@code floor(log(n))}.
+ * <p>
+ * There are no node objects and no references to follow. First levels of the tree are stored next to each other and
+ * stay in CPU cache, and the next index is computed from a comparison result without a branch, so
+ * {@link EytzingerBinarySearchTree#contains(Comparable)} does not suffer from branch mispredictions and pointer
+ * chasing like a linked tree does.
+ * <p>
+ * {@link BinarySearchTree#insert(Comparable)} is an optional operation, and this tree does not support it: it always
+ * throws {@link UnsupportedOperationException}.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class EytzingerBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+
+    private final Object[] elements;
+    private final int size;
+
+    private EytzingerBinarySearchTree(Object[] sortedElements, int size) {
+        this.elements = new Object[size + 1];
+        this.size = size;
+        int index = leftmost(1);
+        for (int i = 0; i < size; i++) {
+            elements[index] = sortedElements[i];
+            index = successor(index);
+        }
+    }
+
+    /**
+     * Creates a tree of provided elements. Elements are sorted and duplicates are removed, so they can be passed
+     * in any order.
+     *
+     * @param elements elements to store
+     * @param <T>      a type of elements
+     * @return a new tree
+     */
+    @SafeVarargs
+    public static <T extends Comparable<T>> EytzingerBinarySearchTree<T> of(T... elements) {
+        final var sortedElements = elements.clone();
+        Arrays.sort(sortedElements);
+        int distinctSize = 0;
+        for (var element : sortedElements) {
+            Objects.requireNonNull(element);
+            if (distinctSize == 0 || sortedElements[distinctSize - 1].compareTo(element) != 0) {
+                sortedElements[distinctSize++] = element;
+            }
+        }
+        return new EytzingerBinarySearchTree<>(sortedElements, distinctSize);
+    }
+
+    /**
+     * Creates a tree of provided elements that are already sorted. It skips sorting, so the tree is built in O(n).
+     *
+     * @param sortedElements distinct elements in ascending order
+     * @param <T>            a type of elements
+     * @return a new tree
+     * @throws IllegalArgumentException if elements are not sorted or contain duplicates
+     */
+    public static <T extends Comparable<T>> EytzingerBinarySearchTree<T> ofSorted(T[] sortedElements) {
+        for (int i = 0; i < sortedElements.length; i++) {
+            Objects.requireNonNull(sortedElements[i]);
+            if (i > 0 && sortedElements[i - 1].compareTo(sortedElements[i]) >= 0) {
+                throw new IllegalArgumentException("Elements must be sorted in ascending order without duplicates");
+            }
+        }
+        return new EytzingerBinarySearchTree<>(sortedElements, sortedElements.length);
+    }
+
+    /**
+     * The tree is immutable, create a new one using {@link EytzingerBinarySearchTree#of(Comparable[])} instead.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean insert(T element) {
+        throw new UnsupportedOperationException("EytzingerBinarySearchTree is immutable");
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        final int index = lowerBound(element);
+        return index != 0 && element(index).compareTo(element) == 0;
+    }
+
+    /**
+     * Finds an index of the smallest element that is greater than or equal to the provided one. On each level it goes
+     * right if the element is less than the given one, and left otherwise. The path is accumulated in the bits of the
+     * index, so once it falls off the tree, the last left turn is found by cutting off trailing right turns.
+     *
+     * @return an index of the lower bound or 0 if all elements are less than the provided one
+     */
+    private int lowerBound(T element) {
+        int index = 1;
+        while (index <= size) {
+            index = 2 * index + (element(index).compareTo(element) >>> 31);
+        }
+        return index >>> (Integer.numberOfTrailingZeros(~index) + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T element(int index) {
+        return (T) elements[index];
+    }
+
+    private int leftmost(int index) {
+        while (2 * index <= size) {
+            index = 2 * index;
+        }
+        return index;
+    }
+
+    private int rightmost(int index) {
+        while (2 * index + 1 <= size) {
+            index = 2 * index + 1;
+        }
+        return index;
+    }
+
+    private int successor(int index) {
+        if (2 * index + 1 <= size) {
+            return leftmost(2 * index + 1);
+        }
+        while ((index & 1) == 1) {
+            index >>>= 1;
+        }
+        return index >>> 1;
+    }
+
+    private int predecessor(int index) {
+        if (2 * index <= size) {
+            return rightmost(2 * index);
+        }
+        while ((index & 1) == 0) {
+            index >>>= 1;
+        }
+        return index >>> 1;
+    }
+
+    @Override
+    public T floor(T element) {
+        Objects.requireNonNull(element);
+        if (size == 0) return null;
+        final int index = lowerBound(element);
+        if (index == 0) return element(rightmost(1));
+        if (element(index).compareTo(element) == 0) return element(index);
+        final int predecessor = predecessor(index);
+        return predecessor == 0 ? null : element(predecessor);
+    }
+
+    @Override
+    public T ceiling(T element) {
+        Objects.requireNonNull(element);
+        final int index = lowerBound(element);
+        return index == 0 ? null : element(index);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new RangeSpliterator(size == 0 ? 0 : leftmost(1), null, size);
+    }
+
+    @Override
+    public Spliterator<T> spliterator(T from, T to) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        return new RangeSpliterator(lowerBound(from), to, size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int depth() {
+        return size == 0 ? 0 : 31 - Integer.numberOfLeadingZeros(size);
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        if (size == 0) return;
+        for (int index = leftmost(1); index != 0; index = successor(index)) {
+            consumer.accept(element(index));
+        }
+    }
+
+    /**
+     * A spliterator that walks the array from an index of the first element to the next in-order index, until it
+     * reaches an element that is greater than the upper bound.
+     */
+    private class RangeSpliterator extends Spliterators.AbstractSpliterator<T> {
+        private final T to;
+        private int index;
+
+        RangeSpliterator(int index, T to, long estimatedSize) {
+            super(estimatedSize, ORDERED | SORTED | DISTINCT | NONNULL | IMMUTABLE);
+            this.index = index;
+            this.to = to;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index == 0) return false;
+            final var element = element(index);
+            if (null != to && element.compareTo(to) > 0) {
+                index = 0;
+                return false;
+            }
+            index = successor(index);
+            action.accept(element);
+            return true;
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link PersistentBinarySearchTree} is an implementation of a {@link BinarySearchTree} that is based on immutable
+ * nodes. Inserting an element never changes existing nodes. Instead, it copies the nodes on the path from the root to
+ * the new element, and shares all the other nodes with the previous version of the tree. The tree is balanced using
+ * Okasaki's red-black insertion, so each version is O(log n) deep and an insertion copies O(log n) nodes.
+ * <p>
+ * A tree object is a mutable reference to the current version. Therefore,
+ * <ul>
+ *     <li>{@link PersistentBinarySearchTree#snapshot()} takes O(1) time and memory, and the snapshot is never affected
+ *     by insertions into the original tree (and vice versa);</li>
+ *     <li>{@link PersistentBinarySearchTree#with(Comparable)} returns a new version and leaves the tree as is;</li>
+ *     <li>readers do not need any locking, every operation reads the current version once and works with it;</li>
+ *     <li>{@link PersistentBinarySearchTree#insert(Comparable)} publishes a new version with compare-and-set, so
+ *     concurrent writers are safe as well.</li>
+ * </ul>
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class PersistentBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private static final boolean RED = true;
+    private static final boolean BLACK = false;
+    private static final VarHandle ROOT;
+
+    static {
+        try {
+            ROOT = MethodHandles.lookup().findVarHandle(PersistentBinarySearchTree.class, "root", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<T> root;
+
+    public PersistentBinarySearchTree() {
+    }
+
+    private PersistentBinarySearchTree(Node<T> root) {
+        this.root = root;
+    }
+
+    @SafeVarargs
+    public static <T extends Comparable<T>> PersistentBinarySearchTree<T> of(T... elements) {
+        final var tree = new PersistentBinarySearchTree<T>();
+        for (var element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    /**
+     * Returns a tree that shares the current version of this one. Subsequent insertions into either tree are not
+     * visible in the other one.
+     *
+     * @return a snapshot of the tree
+     */
+    public PersistentBinarySearchTree<T> snapshot() {
+        return new PersistentBinarySearchTree<>(root);
+    }
+
+    /**
+     * Returns a new version of the tree with provided element, this tree stays unchanged.
+     *
+     * @param element an element to add
+     * @return a new tree that contains the element, or this tree if it already contains the element
+     */
+    public PersistentBinarySearchTree<T> with(T element) {
+        Objects.requireNonNull(element);
+        final var currentRoot = root;
+        final var newRoot = insert(currentRoot, element);
+        return newRoot == currentRoot ? this : new PersistentBinarySearchTree<>(newRoot);
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        Node<T> currentRoot;
+        Node<T> newRoot;
+        do {
+            currentRoot = root;
+            newRoot = insert(currentRoot, element);
+            if (newRoot == currentRoot) return false;
+        } while (!ROOT.compareAndSet(this, currentRoot, newRoot));
+        return true;
+    }
+
+    private Node<T> insert(Node<T> root, T element) {
+        final var newRoot = insertCopying(root, element);
+        if (newRoot == root || newRoot.color == BLACK) return newRoot;
+        return new Node<>(BLACK, newRoot.left, newRoot.value, newRoot.right);
+    }
+
+    /**
+     * Inserts an element into a subtree, copying the nodes on its path.
+     *
+     * @return a new subtree, or the same one if it already contains the element
+     */
+    private Node<T> insertCopying(Node<T> node, T element) {
+        if (null == node) return new Node<>(RED, null, element, null);
+        final int comparison = element.compareTo(node.value);
+        if (comparison < 0) {
+            final var left = insertCopying(node.left, element);
+            return left == node.left ? node : balance(node.color, left, node.value, node.right);
+        } else if (comparison > 0) {
+            final var right = insertCopying(node.right, element);
+            return right == node.right ? node : balance(node.color, node.left, node.value, right);
+        }
+        return node;
+    }
+
+    /**
+     * Creates a node, resolving a red node with a red child below a black node. All four possible cases are rebuilt
+     * into the same shape: a red node with two black children.
+     */
+    private Node<T> balance(boolean color, Node<T> left, T value, Node<T> right) {
+        if (color == BLACK) {
+            if (isRed(left) && isRed(left.left)) {
+                return new Node<>(RED, blacken(left.left), left.value,
+                        new Node<>(BLACK, left.right, value, right));
+            } else if (isRed(left) && isRed(left.right)) {
+                return new Node<>(RED, new Node<>(BLACK, left.left, left.value, left.right.left), left.right.value,
+                        new Node<>(BLACK, left.right.right, value, right));
+            } else if (isRed(right) && isRed(right.left)) {
+                return new Node<>(RED, new Node<>(BLACK, left, value, right.left.left), right.left.value,
+                        new Node<>(BLACK, right.left.right, right.value, right.right));
+            } else if (isRed(right) && isRed(right.right)) {
+                return new Node<>(RED, new Node<>(BLACK, left, value, right.left), right.value,
+                        blacken(right.right));
+            }
+        }
+        return new Node<>(color, left, value, right);
+    }
+
+    private boolean isRed(Node<T> node) {
+        return null != node && node.color == RED;
+    }
+
+    private Node<T> blacken(Node<T> node) {
+        return new Node<>(BLACK, node.left, node.value, node.right);
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        var node = root;
+        while (null != node) {
+            final int comparison = element.compareTo(node.value);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                node = node.right;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        final var currentRoot = root;
+        return null == currentRoot ? 0 : currentRoot.size;
+    }
+
+    @Override
+    public int depth() {
+        final var currentRoot = root;
+        return null == currentRoot ? 0 : depth(currentRoot) - 1;
+    }
+
+    private int depth(Node<T> node) {
+        return null == node ? 0 : 1 + Math.max(depth(node.left), depth(node.right));
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        inOrderTraversal(root, consumer);
+    }
+
+    private void inOrderTraversal(Node<T> node, Consumer<T> consumer) {
+        if (null == node) return;
+        inOrderTraversal(node.left, consumer);
+        consumer.accept(node.value);
+        inOrderTraversal(node.right, consumer);
+    }
+
+    @Override
+    public T floor(T element) {
+        return TreeSearch.floor(root, element, node -> node.left, node -> node.right, node -> node.value);
+    }
+
+    @Override
+    public T ceiling(T element) {
+        return TreeSearch.ceiling(root, element, node -> node.left, node -> node.right, node -> node.value);
+    }
+
+    /**
+     * @return a spliterator over the current version of the tree, that is not affected by subsequent insertions
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        final var currentRoot = root;
+        return new TreeSpliterator<>(currentRoot, null == currentRoot ? 0 : currentRoot.size, null, null,
+                node -> node.left, node -> node.right, node -> node.value);
+    }
+
+    /**
+     * @return a spliterator over the current version of the tree, that is not affected by subsequent insertions
+     */
+    @Override
+    public Spliterator<T> spliterator(T from, T to) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        final var currentRoot = root;
+        return new TreeSpliterator<>(currentRoot, null == currentRoot ? 0 : currentRoot.size, from, to,
+                node -> node.left, node -> node.right, node -> node.value);
+    }
+
+    static class Node<T> {
+        private final boolean color;
+        private final Node<T> left;
+        private final T value;
+        private final Node<T> right;
+        private final int size;
+
+        public Node(boolean color, Node<T> left, T value, Node<T> right) {
+            this.color = color;
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = 1 + (null == left ? 0 : left.size) + (null == right ? 0 : right.size);
+        }
+    }
+}
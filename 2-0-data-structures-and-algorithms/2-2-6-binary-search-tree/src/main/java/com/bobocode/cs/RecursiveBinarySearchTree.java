@@ -1,13 +1,22 @@
 package com.bobocode.cs;
 
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Consumer;
-import java.util.stream.Stream;
 
 /**
- * {@link RecursiveBinarySearchTree} is an implementation of a {@link BinarySearchTree} that is based on a linked nodes
- * and recursion. A tree node is represented as a nested class {@link Node}. It holds an element (a value) and
- * two references to the left and right child nodes.
+ * {@link RecursiveBinarySearchTree} is an implementation of a {@link BinarySearchTree} that is based on a linked nodes.
+ * A tree node is represented as a nested class {@link Node}. It holds an element (a value) and two references to the
+ * left and right child nodes.
+ * <p>
+ * Although the tree is a recursive data structure, all the operations are implemented iteratively. It keeps them
+ * stack-safe on degenerate trees (e.g. built from sorted elements), which are as deep as they are big. Searches and
+ * insertions do not allocate memory except for new nodes, traversals allocate one path array per call. Read operations
+ * never modify the tree, except for {@link RecursiveBinarySearchTree#morrisInOrderTraversal(Consumer)}, an opt-in
+ * traversal in O(1) memory that temporarily relinks nodes.
  *
  * @param <T> a type of elements that are stored in the tree
  * @author Taras Boychuk
@@ -15,86 +24,241 @@ import java.util.stream.Stream;
  */
 public class RecursiveBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
 
+    private static final int PARALLEL_BUILD_THRESHOLD = 1 << 13;
+    private static final int INITIAL_PATH_CAPACITY = 32;
+
     private Node<T> root;
     private int size = 0;
 
+    /**
+     * Creates a perfectly balanced tree of provided elements. Instead of inserting elements one by one, it sorts them,
+     * removes duplicates, and links the middle element of each range as a root of its subtree, so the tree is built
+     * in O(n) after sorting regardless of the elements order. Big inputs are sorted and built in parallel using
+     * the common {@link ForkJoinPool}.
+     *
+     * @param elements elements to add
+     * @param <T>      a type of elements
+     * @return a new balanced tree
+     */
     @SafeVarargs
     public static <T extends Comparable<T>> RecursiveBinarySearchTree<T> of(T... elements) {
+        final var sortedElements = elements.clone();
+        Arrays.parallelSort(sortedElements);
+        int distinctSize = 0;
+        for (var element : sortedElements) {
+            Objects.requireNonNull(element);
+            if (distinctSize == 0 || sortedElements[distinctSize - 1].compareTo(element) != 0) {
+                sortedElements[distinctSize++] = element;
+            }
+        }
+
         final var tree = new RecursiveBinarySearchTree<T>();
-        Stream.of(elements).forEach(tree::insert);
+        tree.root = build(sortedElements, 0, distinctSize);
+        tree.size = distinctSize;
         return tree;
     }
 
+    private static <T> Node<T> build(T[] sortedElements, int from, int to) {
+        if (from >= to) return null;
+        final int middle = (from + to) >>> 1;
+        final var node = new Node<>(sortedElements[middle]);
+        if (to - from < PARALLEL_BUILD_THRESHOLD) {
+            node.left = build(sortedElements, from, middle);
+            node.right = build(sortedElements, middle + 1, to);
+        } else {
+            final var leftTask = ForkJoinTask.adapt(() -> build(sortedElements, from, middle));
+            final var rightTask = ForkJoinTask.adapt(() -> build(sortedElements, middle + 1, to));
+            ForkJoinTask.invokeAll(leftTask, rightTask);
+            node.left = leftTask.join();
+            node.right = rightTask.join();
+        }
+        return node;
+    }
+
     @Override
     public boolean insert(T element) {
+        Objects.requireNonNull(element);
         if (null == root) {
             root = new Node<>(element);
             size++;
             return true;
         }
-        return insert(root, element);
+        var node = root;
+        while (true) {
+            final int comparison = element.compareTo(node.value);
+            if (comparison < 0) {
+                if (null == node.left) {
+                    node.left = new Node<>(element);
+                    size++;
+                    return true;
+                }
+                node = node.left;
+            } else if (comparison > 0) {
+                if (null == node.right) {
+                    node.right = new Node<>(element);
+                    size++;
+                    return true;
+                }
+                node = node.right;
+            } else {
+                return false;
+            }
+        }
     }
 
-    private boolean insert(Node<T> node, T element) {
-        if (node.value.compareTo(element) > 0) {
-            return processInsertOnSubNode(null == node.left, node.left, n -> node.left = n, element);
-        } else if (node.value.compareTo(element) < 0) {
-            return processInsertOnSubNode(null == node.right, node.right, n -> node.right = n, element);
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        var node = root;
+        while (null != node) {
+            final int comparison = element.compareTo(node.value);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                node = node.right;
+            } else {
+                return true;
+            }
         }
         return false;
     }
 
-    private boolean processInsertOnSubNode(boolean subNodeNull, Node<T> subNode,
-                                           Consumer<Node<T>> setSubNode, T element) {
-        if (subNodeNull) {
-            setSubNode.accept(new Node<>(element));
-            size++;
-            return true;
-        }
-        return insert(subNode, element);
+    @Override
+    public int size() {
+        return size;
     }
 
+    /**
+     * Calculates tree depth by an iterative walk that keeps the path from the root in an array, so it does not recurse
+     * and never modifies the tree. See {@link RecursiveBinarySearchTree#inOrderTraversal(Consumer)} for details.
+     */
     @Override
-    public boolean contains(T element) {
-        Objects.requireNonNull(element);
-        return contains(root, element);
+    public int depth() {
+        return walk(null);
     }
 
-    private boolean contains(Node<T> node, T element) {
-        if (null == node) {
-            return false;
-        } else if (node.value.compareTo(element) > 0) {
-            return contains(node.left, element);
-        } else if (node.value.compareTo(element) < 0) {
-            return contains(node.right, element);
+    /**
+     * Traverses the tree in element's natural order. Instead of a call stack it keeps the path from the root to the
+     * current node in an array. The array is allocated once per call and only grows if the tree is deeper than
+     * {@value INITIAL_PATH_CAPACITY} levels. The traversal only reads the tree, so a consumer may query it, and
+     * several traversals may run at the same time.
+     *
+     * @param consumer accepts elements during traversing
+     * @see RecursiveBinarySearchTree#morrisInOrderTraversal(Consumer)
+     */
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        walk(consumer);
+    }
+
+    /**
+     * Traverses the tree in element's natural order using Morris traversal. Instead of a call stack it temporarily
+     * links the rightmost node of each left subtree back to its in-order successor, and removes that link once the
+     * successor is reached. Therefore, the traversal requires O(1) memory on trees of any depth.
+     * <p>
+     * Unlike {@link RecursiveBinarySearchTree#inOrderTraversal(Consumer)}, it <b>modifies the tree</b> while it runs.
+     * A consumer must not access the tree, including {@link RecursiveBinarySearchTree#contains(Comparable)},
+     * {@link RecursiveBinarySearchTree#depth()} and spliterators, since it may loop forever on the temporary links.
+     * It must not run concurrently with any other operation on the tree, including another traversal. If the consumer
+     * throws an exception, the traversal still walks the rest of the tree to restore its structure, and rethrows the
+     * exception afterwards.
+     *
+     * @param consumer accepts elements during traversing
+     */
+    public void morrisInOrderTraversal(Consumer<T> consumer) {
+        Throwable failure = null;
+        var current = root;
+        while (null != current) {
+            if (null == current.left) {
+                failure = visit(current, consumer, failure);
+                current = current.right;
+                continue;
+            }
+            var predecessor = current.left;
+            while (null != predecessor.right && predecessor.right != current) {
+                predecessor = predecessor.right;
+            }
+            if (null == predecessor.right) {
+                predecessor.right = current;
+                current = current.left;
+            } else {
+                predecessor.right = null;
+                failure = visit(current, consumer, failure);
+                current = current.right;
+            }
         }
-        return true;
+        if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+        if (failure instanceof Error) throw (Error) failure;
     }
 
-    @Override
-    public int size() {
-        return size;
+    /**
+     * Walks the tree in order. The path holds all the ancestors of the current node, so its length is the depth of
+     * the node, and the walk returns to a parent by popping it from the path. Coming back from the left child means
+     * the parent is visited next, coming back from the right one means its subtree is done.
+     *
+     * @param consumer accepts elements during traversing, or null if only the depth is needed
+     * @return the depth of the tree
+     */
+    @SuppressWarnings("unchecked")
+    private int walk(Consumer<T> consumer) {
+        if (null == root) return 0;
+        var path = (Node<T>[]) new Node<?>[INITIAL_PATH_CAPACITY];
+        int top = 0;
+        int maxDepth = 0;
+        var node = root;
+        while (true) {
+            while (null != node.left) {
+                if (top == path.length) path = Arrays.copyOf(path, top * 2);
+                path[top++] = node;
+                node = node.left;
+            }
+            maxDepth = Math.max(maxDepth, top);
+            if (null != consumer) consumer.accept(node.value);
+            while (null == node.right) {
+                Node<T> child;
+                do {
+                    if (top == 0) return maxDepth;
+                    child = node;
+                    node = path[--top];
+                } while (node.left != child);
+                if (null != consumer) consumer.accept(node.value);
+            }
+            if (top == path.length) path = Arrays.copyOf(path, top * 2);
+            path[top++] = node;
+            node = node.right;
+        }
+    }
+
+    private Throwable visit(Node<T> node, Consumer<T> consumer, Throwable failure) {
+        if (null != failure) return failure;
+        try {
+            consumer.accept(node.value);
+            return null;
+        } catch (RuntimeException | Error e) {
+            return e;
+        }
     }
 
     @Override
-    public int depth() {
-        return null == root ? 0 : depth(root) - 1;
+    public T floor(T element) {
+        return TreeSearch.floor(root, element, node -> node.left, node -> node.right, node -> node.value);
     }
 
-    private int depth(Node<T> node) {
-        return null == node ? 0 : 1 + Math.max(depth(node.left), depth(node.right));
+    @Override
+    public T ceiling(T element) {
+        return TreeSearch.ceiling(root, element, node -> node.left, node -> node.right, node -> node.value);
     }
 
     @Override
-    public void inOrderTraversal(Consumer<T> consumer) {
-        inOrderTraversal(root, consumer);
+    public Spliterator<T> spliterator() {
+        return new TreeSpliterator<>(root, size, null, null, node -> node.left, node -> node.right, node -> node.value);
     }
 
-    private void inOrderTraversal(Node<T> node, Consumer<T> consumer) {
-        if (null == node) return;
-        inOrderTraversal(node.left, consumer);
-        consumer.accept(node.value);
-        inOrderTraversal(node.right, consumer);
+    @Override
+    public Spliterator<T> spliterator(T from, T to) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        return new TreeSpliterator<>(root, size, from, to, node -> node.left, node -> node.right, node -> node.value);
     }
 
     static class Node<T> {
@@ -0,0 +1,169 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * {@link RedBlackBinarySearchTree} is a self-balancing implementation of a {@link BinarySearchTree}. It is based on
+ * a left-leaning red-black tree, where every red link leans to the left and no node has two red links. Such tree is
+ * a 1-1 correspondence with a 2-3 tree, so its depth never exceeds {@code 2 * log(n)}, and operations
+ * {@link RedBlackBinarySearchTree#insert(Comparable)} and {@link RedBlackBinarySearchTree#contains(Comparable)} are
+ * performed in O(log n) time regardless of the insertion order.
+ * <p>
+ * A tree node is represented as a nested class {@link Node}. It holds an element, two references to the left and
+ * right child nodes, and a color of the link from its parent.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class RedBlackBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private static final boolean RED = true;
+    private static final boolean BLACK = false;
+
+    private Node<T> root;
+    private int size = 0;
+
+    @SafeVarargs
+    public static <T extends Comparable<T>> RedBlackBinarySearchTree<T> of(T... elements) {
+        final var tree = new RedBlackBinarySearchTree<T>();
+        Stream.of(elements).forEach(tree::insert);
+        return tree;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        final int sizeBeforeInsert = size;
+        root = insert(root, element);
+        root.color = BLACK;
+        return size > sizeBeforeInsert;
+    }
+
+    private Node<T> insert(Node<T> node, T element) {
+        if (null == node) {
+            size++;
+            return new Node<>(element);
+        }
+        final int comparison = element.compareTo(node.value);
+        if (comparison < 0) {
+            node.left = insert(node.left, element);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, element);
+        } else {
+            return node;
+        }
+        return balance(node);
+    }
+
+    private Node<T> balance(Node<T> node) {
+        if (isRed(node.right) && !isRed(node.left)) node = rotateLeft(node);
+        if (isRed(node.left) && isRed(node.left.left)) node = rotateRight(node);
+        if (isRed(node.left) && isRed(node.right)) flipColors(node);
+        return node;
+    }
+
+    private boolean isRed(Node<T> node) {
+        return null != node && node.color == RED;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        final var right = node.right;
+        node.right = right.left;
+        right.left = node;
+        right.color = node.color;
+        node.color = RED;
+        return right;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        final var left = node.left;
+        node.left = left.right;
+        left.right = node;
+        left.color = node.color;
+        node.color = RED;
+        return left;
+    }
+
+    private void flipColors(Node<T> node) {
+        node.color = RED;
+        node.left.color = BLACK;
+        node.right.color = BLACK;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        var node = root;
+        while (null != node) {
+            final int comparison = element.compareTo(node.value);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                node = node.right;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int depth() {
+        return null == root ? 0 : depth(root) - 1;
+    }
+
+    private int depth(Node<T> node) {
+        return null == node ? 0 : 1 + Math.max(depth(node.left), depth(node.right));
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        inOrderTraversal(root, consumer);
+    }
+
+    private void inOrderTraversal(Node<T> node, Consumer<T> consumer) {
+        if (null == node) return;
+        inOrderTraversal(node.left, consumer);
+        consumer.accept(node.value);
+        inOrderTraversal(node.right, consumer);
+    }
+
+    @Override
+    public T floor(T element) {
+        return TreeSearch.floor(root, element, node -> node.left, node -> node.right, node -> node.value);
+    }
+
+    @Override
+    public T ceiling(T element) {
+        return TreeSearch.ceiling(root, element, node -> node.left, node -> node.right, node -> node.value);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new TreeSpliterator<>(root, size, null, null, node -> node.left, node -> node.right, node -> node.value);
+    }
+
+    @Override
+    public Spliterator<T> spliterator(T from, T to) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        return new TreeSpliterator<>(root, size, from, to, node -> node.left, node -> node.right, node -> node.value);
+    }
+
+    static class Node<T> {
+        private final T value;
+        private Node<T> left;
+        private Node<T> right;
+        private boolean color = RED;
+
+        public Node(T value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link SkipList} is an implementation of a {@link BinarySearchTree} that keeps elements in a sorted linked list with
+ * additional levels of express lanes above it. Every node is a tower of forward references: the bottom one links all
+ * the nodes, and each next level links only the nodes whose towers are high enough. A node gets one more level with
+ * the provided probability, so each level has that fraction of nodes of the level below it.
+ * <p>
+ * A search starts on the top level and moves forward while the next element is less than the searched one, then
+ * steps down a level. It visits O(log n) nodes on average no matter in which order elements were inserted, since
+ * tower heights are random, so unlike {@link RecursiveBinarySearchTree} it does not degrade on sorted input. An
+ * insert changes only the forward references of the predecessors of the new node, and never rebalances anything.
+ * <p>
+ * A lower probability builds lower towers: with probability 1/4 a node has 1.33 references on average instead of
+ * 2 with probability 1/2, and a search visits a few more nodes per level.
+ *
+ * @param <T> a type of elements that are stored in the skip list
+ */
+public class SkipList<T extends Comparable<T>> implements BinarySearchTree<T> {
+    static final int MAX_LEVEL = 32;
+    static final double DEFAULT_PROBABILITY = 0.25;
+
+    private final Node<T> head = new Node<>(null, MAX_LEVEL);
+    private final Node<T>[] predecessors = newTower(MAX_LEVEL);
+    private final SplittableRandom random = new SplittableRandom();
+    private final double probability;
+    private int level = 1;
+    private int size;
+
+    /**
+     * Creates an empty skip list where a node gets every next level with probability 1/4.
+     */
+    public SkipList() {
+        this(DEFAULT_PROBABILITY);
+    }
+
+    /**
+     * Creates an empty skip list.
+     *
+     * @param probability the probability of a node to get every next level, from 0 to 1 exclusive
+     * @throws IllegalArgumentException if the probability is not in (0, 1)
+     */
+    public SkipList(double probability) {
+        if (!(probability > 0 && probability < 1)) {
+            throw new IllegalArgumentException("Invalid probability " + probability);
+        }
+        this.probability = probability;
+    }
+
+    @SafeVarargs
+    public static <T extends Comparable<T>> SkipList<T> of(T... elements) {
+        final var skipList = new SkipList<T>();
+        for (var element : elements) {
+            skipList.insert(element);
+        }
+        return skipList;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        var node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            var next = node.next[i];
+            while (null != next && next.value.compareTo(element) < 0) {
+                node = next;
+                next = node.next[i];
+            }
+            predecessors[i] = node;
+        }
+        final var successor = node.next[0];
+        if (null != successor && successor.value.compareTo(element) == 0) return false;
+
+        final int height = randomHeight();
+        for (; level < height; level++) {
+            predecessors[level] = head;
+        }
+        final var newNode = new Node<>(element, height);
+        for (int i = 0; i < height; i++) {
+            newNode.next[i] = predecessors[i].next[i];
+            predecessors[i].next[i] = newNode;
+        }
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        final var candidate = lowerNode(element).next[0];
+        return null != candidate && candidate.value.compareTo(element) == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of express levels above the bottom list; 0 - if the skip list has a single level
+     */
+    @Override
+    public int depth() {
+        return level - 1;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        for (var node = head.next[0]; null != node; node = node.next[0]) {
+            consumer.accept(node.value);
+        }
+    }
+
+    @Override
+    public T floor(T element) {
+        Objects.requireNonNull(element);
+        var node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            var next = node.next[i];
+            while (null != next && next.value.compareTo(element) <= 0) {
+                node = next;
+                next = node.next[i];
+            }
+        }
+        return node.value;
+    }
+
+    @Override
+    public T ceiling(T element) {
+        Objects.requireNonNull(element);
+        final var candidate = lowerNode(element).next[0];
+        return null != candidate ? candidate.value : null;
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new BoundedSpliterator<>(head.next[0], size, 0, null, node -> node.next[0], node -> node.value);
+    }
+
+    /**
+     * @return a spliterator that finds the first element in O(log n) and then walks the bottom list
+     */
+    @Override
+    public Spliterator<T> spliterator(T from, T to) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        return new BoundedSpliterator<>(lowerNode(from).next[0], size, 0, to, node -> node.next[0], node -> node.value);
+    }
+
+    /**
+     * @return the last node with an element less than the given one, or the head if there is no such node
+     */
+    private Node<T> lowerNode(T element) {
+        var node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            var next = node.next[i];
+            while (null != next && next.value.compareTo(element) < 0) {
+                node = next;
+                next = node.next[i];
+            }
+        }
+        return node;
+    }
+
+    private int randomHeight() {
+        int height = 1;
+        while (height < MAX_LEVEL && random.nextDouble() < probability) {
+            height++;
+        }
+        return height;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] newTower(int height) {
+        return (Node<T>[]) new Node<?>[height];
+    }
+
+    static class Node<T> {
+        private final T value;
+        private final Node<T>[] next;
+
+        Node(T value, int height) {
+            this.value = value;
+            this.next = newTower(height);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link TreeSearch} holds searches that are the same for every tree of linked nodes. Each of them descends from the
+ * root once, going left or right by a comparison with the searched element, and remembers the closest element seen on
+ * the way.
+ * <p>
+ * Node type is not known to the searches, so they access nodes by provided functions.
+ */
+final class TreeSearch {
+
+    private TreeSearch() {
+    }
+
+    /**
+     * @param root    a root of the tree or null if the tree is empty
+     * @param element an element to search for
+     * @param left    a function that returns a left child of a node
+     * @param right   a function that returns a right child of a node
+     * @param value   a function that returns an element of a node
+     * @return the greatest element less than or equal to the given one; null - if there is no such element
+     */
+    static <N, T extends Comparable<T>> T floor(N root, T element,
+                                                UnaryOperator<N> left, UnaryOperator<N> right, Function<N, T> value) {
+        Objects.requireNonNull(element);
+        T floor = null;
+        var node = root;
+        while (null != node) {
+            final var nodeValue = value.apply(node);
+            final int comparison = element.compareTo(nodeValue);
+            if (comparison < 0) {
+                node = left.apply(node);
+            } else if (comparison > 0) {
+                floor = nodeValue;
+                node = right.apply(node);
+            } else {
+                return nodeValue;
+            }
+        }
+        return floor;
+    }
+
+    /**
+     * @param root    a root of the tree or null if the tree is empty
+     * @param element an element to search for
+     * @param left    a function that returns a left child of a node
+     * @param right   a function that returns a right child of a node
+     * @param value   a function that returns an element of a node
+     * @return the least element greater than or equal to the given one; null - if there is no such element
+     */
+    static <N, T extends Comparable<T>> T ceiling(N root, T element,
+                                                  UnaryOperator<N> left, UnaryOperator<N> right, Function<N, T> value) {
+        Objects.requireNonNull(element);
+        T ceiling = null;
+        var node = root;
+        while (null != node) {
+            final var nodeValue = value.apply(node);
+            final int comparison = element.compareTo(nodeValue);
+            if (comparison < 0) {
+                ceiling = nodeValue;
+                node = left.apply(node);
+            } else if (comparison > 0) {
+                node = right.apply(node);
+            } else {
+                return nodeValue;
+            }
+        }
+        return ceiling;
+    }
+}
@@ -0,0 +1,148 @@
+package com.bobocode.cs;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link TreeSpliterator} is a lazy in-order {@link Spliterator} over a tree of linked nodes. Instead of a call stack
+ * it keeps an explicit path of nodes whose elements are not visited yet, so it does not overflow on degenerate trees.
+ * Subtrees that are out of the range are never entered: the path initially descends only to elements greater than or
+ * equal to the lower bound, and the traversal stops on the first element greater than the upper bound.
+ * <p>
+ * Node type is not known to the spliterator, so it accesses nodes by provided functions.
+ *
+ * @param <N> a type of tree nodes
+ * @param <T> a type of elements that are stored in the tree
+ */
+class TreeSpliterator<N, T extends Comparable<T>> implements Spliterator<T> {
+    private final UnaryOperator<N> left;
+    private final UnaryOperator<N> right;
+    private final Function<N, T> value;
+    private final T from;
+    private final T to;
+    private final Deque<N> path = new ArrayDeque<>();
+    private final boolean concurrent;
+    private long estimatedSize;
+    private boolean exactSize;
+
+    /**
+     * Creates a spliterator over elements of a tree in range [from, to].
+     *
+     * @param root          a root of the tree
+     * @param estimatedSize an estimated number of elements in the range
+     * @param from          a lower bound (inclusive) or null if there is no lower bound
+     * @param to            an upper bound (inclusive) or null if there is no upper bound
+     * @param left          a function that returns a left child of a node
+     * @param right         a function that returns a right child of a node
+     * @param value         a function that returns an element of a node
+     */
+    TreeSpliterator(N root, long estimatedSize, T from, T to,
+                    UnaryOperator<N> left, UnaryOperator<N> right, Function<N, T> value) {
+        this(root, estimatedSize, false, from, to, left, right, value);
+    }
+
+    /**
+     * Creates a spliterator over elements of a tree in range [from, to], that can be modified concurrently. Such
+     * spliterator reports {@link Spliterator#CONCURRENT} and never reports {@link Spliterator#SIZED}.
+     *
+     * @param concurrent whether the tree can be modified concurrently
+     * @see TreeSpliterator#TreeSpliterator(Object, long, Comparable, Comparable, UnaryOperator, UnaryOperator, Function)
+     */
+    TreeSpliterator(N root, long estimatedSize, boolean concurrent, T from, T to,
+                    UnaryOperator<N> left, UnaryOperator<N> right, Function<N, T> value) {
+        this(estimatedSize, concurrent, !concurrent && null == from && null == to, from, to, left, right, value);
+        pushLeftPath(root);
+    }
+
+    private TreeSpliterator(long estimatedSize, boolean concurrent, boolean exactSize, T from, T to,
+                            UnaryOperator<N> left, UnaryOperator<N> right, Function<N, T> value) {
+        this.left = left;
+        this.right = right;
+        this.value = value;
+        this.from = from;
+        this.to = to;
+        this.estimatedSize = estimatedSize;
+        this.concurrent = concurrent;
+        this.exactSize = exactSize;
+    }
+
+    private void pushLeftPath(N node) {
+        while (null != node) {
+            if (null != from && value.apply(node).compareTo(from) < 0) {
+                node = right.apply(node);
+            } else {
+                path.push(node);
+                node = left.apply(node);
+            }
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        final var node = path.poll();
+        if (null == node) return false;
+        final var element = value.apply(node);
+        if (null != to && element.compareTo(to) > 0) {
+            path.clear();
+            estimatedSize = 0;
+            return false;
+        }
+        pushLeftPath(right.apply(node));
+        if (estimatedSize > 0) estimatedSize--;
+        action.accept(element);
+        return true;
+    }
+
+    /**
+     * Splits the remaining elements at a subtree boundary. The bottom node of the path is visited last, so it stays
+     * in this spliterator together with its right subtree, and the rest of the path (which holds smaller elements) is
+     * moved to a new one. If the path has a single node, the node alone is split off, and this spliterator continues
+     * with its right subtree, which is split further by the next call.
+     *
+     * @return a spliterator over a prefix of the remaining elements, or null if they can not be split
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        final var node = path.peekLast();
+        if (null == node || path.size() == 1 && null == right.apply(node)) return null;
+
+        final TreeSpliterator<N, T> prefix;
+        if (path.size() == 1) {
+            final var element = value.apply(node);
+            if (null != to && element.compareTo(to) >= 0) return null;
+            path.pop();
+            prefix = new TreeSpliterator<>(1, concurrent, false, from, element, left, right, value);
+            prefix.path.push(node);
+            pushLeftPath(right.apply(node));
+        } else {
+            prefix = new TreeSpliterator<>(estimatedSize / 2, concurrent, false, from, to, left, right, value);
+            while (path.size() > 1) {
+                prefix.path.addLast(path.pop());
+            }
+        }
+        estimatedSize -= prefix.estimatedSize;
+        exactSize = false;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimatedSize;
+    }
+
+    @Override
+    public int characteristics() {
+        final int characteristics = ORDERED | SORTED | DISTINCT | NONNULL | (concurrent ? CONCURRENT : 0);
+        return exactSize ? characteristics | SIZED : characteristics;
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+        return null;
+    }
+}
@@ -0,0 +1,146 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Checks range operations of every {@link BinarySearchTree} implementation on the same set of even numbers
+ * {@code 0, 2, ..., 198}.
+ */
+class BinarySearchTreeRangeTest {
+    private static final int SIZE = 100;
+
+    static Stream<Arguments> trees() {
+        return Stream.of(
+                arguments(tree(RecursiveBinarySearchTree::of)),
+                arguments(tree(RedBlackBinarySearchTree::of)),
+                arguments(tree(EytzingerBinarySearchTree::of)),
+                arguments(tree(ConcurrentBinarySearchTree::of)),
+                arguments(tree(PersistentBinarySearchTree::of)),
+                arguments(tree(SkipList::of)),
+                arguments(tree(ConcurrentSkipList::of))
+        );
+    }
+
+    private static BinarySearchTree<Integer> tree(Function<Integer[], BinarySearchTree<Integer>> factory) {
+        var elements = IntStream.range(0, SIZE).mapToObj(i -> 2 * i).collect(toList());
+        Collections.shuffle(elements, new Random(42));
+        return factory.apply(elements.toArray(Integer[]::new));
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    void floor(BinarySearchTree<Integer> tree) {
+        assertThat(tree.floor(-1)).isNull();
+        assertThat(tree.floor(0)).isEqualTo(0);
+        assertThat(tree.floor(1)).isEqualTo(0);
+        assertThat(tree.floor(101)).isEqualTo(100);
+        assertThat(tree.floor(102)).isEqualTo(102);
+        assertThat(tree.floor(1000)).isEqualTo(198);
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    void ceiling(BinarySearchTree<Integer> tree) {
+        assertThat(tree.ceiling(-1)).isEqualTo(0);
+        assertThat(tree.ceiling(0)).isEqualTo(0);
+        assertThat(tree.ceiling(1)).isEqualTo(2);
+        assertThat(tree.ceiling(101)).isEqualTo(102);
+        assertThat(tree.ceiling(198)).isEqualTo(198);
+        assertThat(tree.ceiling(199)).isNull();
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    void rangeTraversal(BinarySearchTree<Integer> tree) {
+        var traversedElements = new ArrayList<Integer>();
+
+        tree.rangeTraversal(9, 20, traversedElements::add);
+
+        assertThat(traversedElements).isEqualTo(List.of(10, 12, 14, 16, 18, 20));
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    void rangeTraversalOfEmptyRange(BinarySearchTree<Integer> tree) {
+        var traversedElements = new ArrayList<Integer>();
+
+        tree.rangeTraversal(11, 11, traversedElements::add);
+        tree.rangeTraversal(20, 10, traversedElements::add);
+        tree.rangeTraversal(199, 1000, traversedElements::add);
+
+        assertThat(traversedElements).isEmpty();
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    void streamOfRange(BinarySearchTree<Integer> tree) {
+        assertThat(tree.stream(-100, 4).collect(toList())).isEqualTo(List.of(0, 2, 4));
+        assertThat(tree.stream(194, 1000).collect(toList())).isEqualTo(List.of(194, 196, 198));
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    void streamOfAllElements(BinarySearchTree<Integer> tree) {
+        var elements = tree.stream().collect(toList());
+
+        assertThat(elements).hasSize(SIZE).isSorted();
+        assertThat(elements.get(0)).isEqualTo(0);
+        assertThat(elements.get(SIZE - 1)).isEqualTo(198);
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    void streamIsLazy(BinarySearchTree<Integer> tree) {
+        var visitedElements = new ArrayList<Integer>();
+
+        var firstElements = tree.stream().peek(visitedElements::add).limit(3).collect(toList());
+
+        assertThat(firstElements).isEqualTo(List.of(0, 2, 4));
+        assertThat(visitedElements).isEqualTo(List.of(0, 2, 4));
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    void parallelStreamOfRangeKeepsNaturalOrder(BinarySearchTree<Integer> tree) {
+        var sequential = tree.stream(9, 151).collect(toList());
+        var parallel = tree.stream(9, 151).parallel().collect(toList());
+
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(parallel).hasSize(71).isSorted();
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    void spliteratorIsSortedInNaturalOrder(BinarySearchTree<Integer> tree) {
+        var spliterator = tree.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SORTED | Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.DISTINCT | Spliterator.NONNULL)).isTrue();
+        assertThat(spliterator.getComparator()).isNull();
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    void rangeOperationsThrowExceptionIfParameterIsNull(BinarySearchTree<Integer> tree) {
+        assertThatNullPointerException().isThrownBy(() -> tree.floor(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.ceiling(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.spliterator(null, 1));
+        assertThatNullPointerException().isThrownBy(() -> tree.spliterator(1, null));
+    }
+}
@@ -0,0 +1,96 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class ConcurrentBinarySearchTreeTest {
+    private static final int THREADS = 8;
+
+    private final BinarySearchTree<Integer> tree = new ConcurrentBinarySearchTree<>();
+
+    @Test
+    void insert() {
+        assertThat(tree.insert(10)).isTrue();
+        assertThat(tree.insert(5)).isTrue();
+        assertThat(tree.insert(15)).isTrue();
+        assertThat(tree.insert(10)).isFalse();
+
+        assertThat(tree.size()).isEqualTo(3);
+        assertThat(tree.depth()).isEqualTo(1);
+    }
+
+    @Test
+    void contains() {
+        tree.insert(10);
+        tree.insert(5);
+
+        assertThat(tree.contains(5)).isTrue();
+        assertThat(tree.contains(10)).isTrue();
+        assertThat(tree.contains(15)).isFalse();
+    }
+
+    @Test
+    void insertAndContainsThrowExceptionWhenArgumentIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    void depthDoesNotOverflowStackOnDegenerateTree() {
+        IntStream.range(0, 20_000).forEach(tree::insert);
+
+        assertThat(tree.depth()).isEqualTo(19_999);
+    }
+
+    @Test
+    void spliteratorIsConcurrent() {
+        assertThat(tree.spliterator().hasCharacteristics(Spliterator.CONCURRENT)).isTrue();
+        assertThat(tree.spliterator().hasCharacteristics(Spliterator.SIZED)).isFalse();
+    }
+
+    @Test
+    void concurrentInsertsOfOverlappingElements() throws Exception {
+        int elementsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> insertedCounts = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t * elementsPerThread / 2;
+            insertedCounts.add(executor.submit(() -> {
+                start.await();
+                int inserted = 0;
+                for (int e = offset; e < offset + elementsPerThread; e++) {
+                    if (tree.insert(Integer.reverse(e))) inserted++;
+                }
+                return inserted;
+            }));
+        }
+        start.countDown();
+        int totalInserted = 0;
+        for (var count : insertedCounts) {
+            totalInserted += count.get();
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+
+        int distinctElements = (THREADS + 1) * elementsPerThread / 2;
+        assertThat(totalInserted).isEqualTo(distinctElements);
+        assertThat(tree.size()).isEqualTo(distinctElements);
+        var elements = tree.stream().collect(toList());
+        assertThat(elements).hasSize(distinctElements).isSorted();
+        IntStream.range(0, distinctElements).forEach(e -> assertThat(tree.contains(Integer.reverse(e))).isTrue());
+    }
+}
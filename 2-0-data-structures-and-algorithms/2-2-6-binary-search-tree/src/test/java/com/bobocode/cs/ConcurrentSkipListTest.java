@@ -0,0 +1,125 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class ConcurrentSkipListTest {
+    private static final int THREADS = 8;
+
+    private final BinarySearchTree<Integer> tree = new ConcurrentSkipList<>();
+
+    @Test
+    void insert() {
+        assertThat(tree.insert(10)).isTrue();
+        assertThat(tree.insert(5)).isTrue();
+        assertThat(tree.insert(15)).isTrue();
+        assertThat(tree.insert(10)).isFalse();
+
+        assertThat(tree.size()).isEqualTo(3);
+    }
+
+    @Test
+    void contains() {
+        tree.insert(10);
+        tree.insert(5);
+
+        assertThat(tree.contains(5)).isTrue();
+        assertThat(tree.contains(10)).isTrue();
+        assertThat(tree.contains(15)).isFalse();
+    }
+
+    @Test
+    void insertAndContainsThrowExceptionWhenArgumentIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    void depthIsLogarithmicOnSortedInput() {
+        IntStream.range(0, 100_000).forEach(tree::insert);
+
+        assertThat(tree.depth()).isBetween(4, 16);
+        assertThat(tree.floor(100_000)).isEqualTo(99_999);
+        assertThat(tree.ceiling(-1)).isEqualTo(0);
+    }
+
+    @Test
+    void spliteratorIsConcurrent() {
+        assertThat(tree.spliterator().hasCharacteristics(Spliterator.CONCURRENT)).isTrue();
+        assertThat(tree.spliterator().hasCharacteristics(Spliterator.SIZED)).isFalse();
+    }
+
+    @Test
+    void concurrentInsertsOfOverlappingElements() throws Exception {
+        int elementsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> insertedCounts = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t * elementsPerThread / 2;
+            insertedCounts.add(executor.submit(() -> {
+                start.await();
+                int inserted = 0;
+                for (int e = offset; e < offset + elementsPerThread; e++) {
+                    if (tree.insert(Integer.reverse(e))) inserted++;
+                }
+                return inserted;
+            }));
+        }
+        start.countDown();
+        int totalInserted = 0;
+        for (var count : insertedCounts) {
+            totalInserted += count.get();
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+
+        int distinctElements = (THREADS + 1) * elementsPerThread / 2;
+        assertThat(totalInserted).isEqualTo(distinctElements);
+        assertThat(tree.size()).isEqualTo(distinctElements);
+        var elements = tree.stream().collect(toList());
+        assertThat(elements).hasSize(distinctElements).isSorted();
+        IntStream.range(0, distinctElements).forEach(e -> assertThat(tree.contains(Integer.reverse(e))).isTrue());
+    }
+
+    @Test
+    void concurrentInsertsOfAdjacentElements() throws Exception {
+        int elementsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> inserts = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            inserts.add(executor.submit(() -> {
+                start.await();
+                for (int e = offset; e < THREADS * elementsPerThread; e += THREADS) {
+                    tree.insert(e);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (var insert : inserts) {
+            insert.get();
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(tree.size()).isEqualTo(THREADS * elementsPerThread);
+        assertThat(tree.stream().collect(toList())).isEqualTo(
+                IntStream.range(0, THREADS * elementsPerThread).boxed().collect(toList()));
+    }
+}
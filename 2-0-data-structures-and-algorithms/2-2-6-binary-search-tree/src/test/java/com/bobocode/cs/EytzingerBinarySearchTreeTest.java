@@ -0,0 +1,86 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EytzingerBinarySearchTreeTest {
+
+    @Test
+    void ofSortsAndRemovesDuplicates() {
+        var tree = EytzingerBinarySearchTree.of(10, 9, 11, 8, 12, 7, 10, 7);
+
+        var traversedElements = new ArrayList<Integer>();
+        tree.inOrderTraversal(traversedElements::add);
+
+        assertThat(tree.size()).isEqualTo(6);
+        assertThat(traversedElements).isEqualTo(List.of(7, 8, 9, 10, 11, 12));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 7, 8, 100, 1023, 1024, 1025})
+    void containsFindsEveryElementAndOnlyThem(int size) {
+        var tree = EytzingerBinarySearchTree.ofSorted(evenNumbers(size));
+
+        for (int e = -1; e <= 2 * size; e++) {
+            assertThat(tree.contains(e)).isEqualTo(e >= 0 && e % 2 == 0 && e < 2 * size);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 7, 8, 100, 1023, 1024, 1025})
+    void inOrderTraversal(int size) {
+        var elements = evenNumbers(size);
+        var tree = EytzingerBinarySearchTree.ofSorted(elements);
+
+        var traversedElements = new ArrayList<Integer>();
+        tree.inOrderTraversal(traversedElements::add);
+
+        assertThat(traversedElements).isEqualTo(List.of(elements));
+    }
+
+    @Test
+    void depth() {
+        assertThat(EytzingerBinarySearchTree.<Integer>of().depth()).isEqualTo(0);
+        assertThat(EytzingerBinarySearchTree.of(1).depth()).isEqualTo(0);
+        assertThat(EytzingerBinarySearchTree.of(1, 2, 3).depth()).isEqualTo(1);
+        assertThat(EytzingerBinarySearchTree.of(1, 2, 3, 4).depth()).isEqualTo(2);
+        assertThat(EytzingerBinarySearchTree.ofSorted(evenNumbers(1_000_000)).depth()).isEqualTo(19);
+    }
+
+    @Test
+    void ofSortedThrowsExceptionIfElementsAreNotSorted() {
+        assertThatIllegalArgumentException().isThrownBy(() -> EytzingerBinarySearchTree.ofSorted(new Integer[]{1, 3, 2}));
+        assertThatIllegalArgumentException().isThrownBy(() -> EytzingerBinarySearchTree.ofSorted(new Integer[]{1, 1}));
+    }
+
+    @Test
+    void insertIsNotSupported() {
+        BinarySearchTree<Integer> tree = EytzingerBinarySearchTree.of(1, 2, 3);
+
+        assertThatThrownBy(() -> tree.insert(4)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> tree.insert(2)).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(tree.size()).isEqualTo(3);
+        assertThat(tree.contains(4)).isFalse();
+    }
+
+    @Test
+    void containsThrowsExceptionIfParameterIsNull() {
+        var tree = EytzingerBinarySearchTree.of(1, 2, 3);
+
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    private static Integer[] evenNumbers(int size) {
+        return IntStream.range(0, size).map(i -> 2 * i).boxed().toArray(Integer[]::new);
+    }
+}
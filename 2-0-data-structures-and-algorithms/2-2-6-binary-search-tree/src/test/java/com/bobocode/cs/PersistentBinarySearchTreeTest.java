@@ -0,0 +1,101 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class PersistentBinarySearchTreeTest {
+
+    private final PersistentBinarySearchTree<Integer> tree = new PersistentBinarySearchTree<>();
+
+    @Test
+    void insert() {
+        assertThat(tree.insert(10)).isTrue();
+        assertThat(tree.insert(5)).isTrue();
+        assertThat(tree.insert(15)).isTrue();
+        assertThat(tree.insert(10)).isFalse();
+
+        assertThat(tree.size()).isEqualTo(3);
+        assertThat(tree.contains(5)).isTrue();
+        assertThat(tree.contains(7)).isFalse();
+    }
+
+    @Test
+    void insertAndContainsThrowExceptionWhenArgumentIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.with(null));
+    }
+
+    @Test
+    void snapshotIsNotAffectedByInsertions() {
+        tree.insert(1);
+        tree.insert(2);
+
+        var snapshot = tree.snapshot();
+        tree.insert(3);
+        snapshot.insert(4);
+
+        assertThat(snapshot.stream().collect(toList())).isEqualTo(List.of(1, 2, 4));
+        assertThat(tree.stream().collect(toList())).isEqualTo(List.of(1, 2, 3));
+    }
+
+    @Test
+    void withReturnsNewVersion() {
+        var first = PersistentBinarySearchTree.of(1, 2);
+
+        var second = first.with(3);
+
+        assertThat(first.size()).isEqualTo(2);
+        assertThat(first.contains(3)).isFalse();
+        assertThat(second.size()).isEqualTo(3);
+        assertThat(second.contains(3)).isTrue();
+        assertThat(second.with(3)).isSameAs(second);
+    }
+
+    @Test
+    void spliteratorIsNotAffectedByInsertions() {
+        tree.insert(1);
+        tree.insert(3);
+
+        var spliterator = tree.spliterator();
+        tree.insert(2);
+
+        var elements = new ArrayList<Integer>();
+        spliterator.forEachRemaining(elements::add);
+        assertThat(elements).isEqualTo(List.of(1, 3));
+    }
+
+    @Test
+    void depthIsLogarithmicOnSortedInput() {
+        int size = 100_000;
+        IntStream.range(0, size).forEach(tree::insert);
+
+        assertThat(tree.size()).isEqualTo(size);
+        assertThat(tree.depth()).isLessThanOrEqualTo(2 * (32 - Integer.numberOfLeadingZeros(size + 1)));
+        assertThat(tree.stream().collect(toList())).isEqualTo(IntStream.range(0, size).boxed().collect(toList()));
+    }
+
+    @Test
+    void concurrentInsertsAreNotLost() {
+        int threads = 4;
+        int elementsPerThread = 10_000;
+        var futures = IntStream.range(0, threads)
+                .mapToObj(t -> CompletableFuture.runAsync(() -> IntStream.range(0, elementsPerThread)
+                        .forEach(e -> tree.insert(e * threads + t))))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(futures).join();
+
+        assertThat(tree.size()).isEqualTo(threads * elementsPerThread);
+        assertThat(tree.stream().collect(toList()))
+                .isEqualTo(IntStream.range(0, threads * elementsPerThread).boxed().collect(toList()));
+    }
+}
@@ -13,11 +13,16 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
@@ -249,6 +254,131 @@ class RecursiveBinarySearchTreeTest {
         assertThat(traversedElements).isEqualTo(List.of(sortedElements));
     }
 
+    @Test
+    @Order(20)
+    void operationsDoNotOverflowStackOnDegenerateTree() {
+        int size = 20_000;
+        for (int e = 0; e < size; e++) {
+            assertThat(tree.insert(e)).isTrue();
+        }
+
+        assertThat(tree.contains(size - 1)).isTrue();
+        assertThat(tree.contains(size)).isFalse();
+        assertThat(tree.depth()).isEqualTo(size - 1);
+        List<Integer> traversedElements = new ArrayList<>(size);
+        tree.inOrderTraversal(traversedElements::add);
+        assertThat(traversedElements).hasSize(size).isSorted();
+    }
+
+    @Test
+    @Order(21)
+    void inorderTraversalRestoresTreeWhenConsumerThrowsException() {
+        fillTestTree(someElements);
+
+        assertThatIllegalStateException().isThrownBy(() -> tree.inOrderTraversal(e -> {
+            throw new IllegalStateException();
+        }));
+
+        for (var e : someElements) {
+            assertThat(contains(getRootObject(), e)).isTrue();
+        }
+        assertThat(tree.depth()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(22)
+    void ofBuildsBalancedTreeWithoutDuplicates() {
+        tree = RecursiveBinarySearchTree.of(1, 2, 3, 4, 5, 6, 7, 7, 1);
+
+        assertThat(getInnerSize()).isEqualTo(7);
+        assertThat(getElement(getRootObject())).isEqualTo(4);
+        assertThat(tree.depth()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(23)
+    void ofBuildsBigTreeInParallel() {
+        int size = 100_000;
+        Integer[] elements = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+        Collections.shuffle(Arrays.asList(elements), new Random(42));
+
+        tree = RecursiveBinarySearchTree.of(elements);
+
+        assertThat(getInnerSize()).isEqualTo(size);
+        assertThat(tree.depth()).isEqualTo(16);
+        List<Integer> traversedElements = new ArrayList<>(size);
+        tree.inOrderTraversal(traversedElements::add);
+        assertThat(traversedElements).isEqualTo(IntStream.range(0, size).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    @Order(24)
+    void parallelStreamKeepsNaturalOrder() {
+        Integer[] elements = IntStream.range(0, 10_000).boxed().toArray(Integer[]::new);
+        tree = RecursiveBinarySearchTree.of(elements);
+
+        String sequential = tree.stream().map(String::valueOf).collect(Collectors.joining(","));
+        String parallel = tree.parallelStream().map(String::valueOf).collect(Collectors.joining(","));
+
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(tree.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(49_995_000L);
+    }
+
+    @Test
+    @Order(25)
+    void inorderTraversalAllowsConsumerToQueryTree() {
+        fillTestTree(someElements);
+        Integer[] sortedElements = Arrays.copyOf(someElements, someElements.length);
+        Arrays.sort(sortedElements);
+
+        List<Integer> traversedElements = new ArrayList<>(getInnerSize());
+        tree.inOrderTraversal(e -> {
+            assertThat(tree.contains(e)).isTrue();
+            assertThat(tree.depth()).isEqualTo(3);
+            assertThat(tree.stream().count()).isEqualTo(someElements.length);
+            traversedElements.add(e);
+        });
+
+        assertThat(traversedElements).isEqualTo(List.of(sortedElements));
+    }
+
+    @Test
+    @Order(26)
+    void morrisInOrderTraversal() {
+        fillTestTree(someElements);
+        Integer[] sortedElements = Arrays.copyOf(someElements, someElements.length);
+        Arrays.sort(sortedElements);
+
+        List<Integer> traversedElements = new ArrayList<>(getInnerSize());
+        ((RecursiveBinarySearchTree<Integer>) tree).morrisInOrderTraversal(traversedElements::add);
+
+        assertThat(traversedElements).isEqualTo(List.of(sortedElements));
+    }
+
+    @Test
+    @Order(27)
+    void morrisInOrderTraversalRestoresTreeWhenConsumerThrowsPartway() {
+        fillTestTree(someElements);
+        Integer[] sortedElements = Arrays.copyOf(someElements, someElements.length);
+        Arrays.sort(sortedElements);
+        List<Integer> visitedElements = new ArrayList<>();
+
+        assertThatIllegalStateException().isThrownBy(() ->
+                ((RecursiveBinarySearchTree<Integer>) tree).morrisInOrderTraversal(e -> {
+                    visitedElements.add(e);
+                    if (e == 9) throw new IllegalStateException();
+                }));
+
+        assertThat(visitedElements).isEqualTo(List.of(7, 8, 9));
+        List<Integer> traversedElements = new ArrayList<>(getInnerSize());
+        tree.inOrderTraversal(traversedElements::add);
+        assertThat(traversedElements).isEqualTo(List.of(sortedElements));
+        assertThat(tree.depth()).isEqualTo(3);
+        for (var e : someElements) {
+            assertThat(contains(getRootObject(), e)).isTrue();
+        }
+    }
+
     public static Stream<Arguments> depthArguments() {
         return Stream.of(
                 //empty tree
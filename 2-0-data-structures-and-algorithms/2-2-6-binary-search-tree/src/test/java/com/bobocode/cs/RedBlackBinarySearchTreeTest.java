@@ -0,0 +1,111 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class RedBlackBinarySearchTreeTest {
+    private static final int BIG_SIZE = 100_000;
+
+    private final BinarySearchTree<Integer> tree = new RedBlackBinarySearchTree<>();
+
+    @Test
+    void of() {
+        var tree = RedBlackBinarySearchTree.of(10, 9, 11, 8, 12, 7);
+
+        assertThat(tree.size()).isEqualTo(6);
+        for (int e = 7; e <= 12; e++) {
+            assertThat(tree.contains(e)).isTrue();
+        }
+    }
+
+    @Test
+    void insertReturnsTrueForNewElements() {
+        assertThat(tree.insert(10)).isTrue();
+        assertThat(tree.insert(5)).isTrue();
+        assertThat(tree.insert(15)).isTrue();
+
+        assertThat(tree.size()).isEqualTo(3);
+    }
+
+    @Test
+    void insertDoesNotAddDuplicateElements() {
+        tree.insert(10);
+        tree.insert(11);
+
+        assertThat(tree.insert(10)).isFalse();
+        assertThat(tree.insert(11)).isFalse();
+        assertThat(tree.size()).isEqualTo(2);
+    }
+
+    @Test
+    void insertThrowsExceptionWhenArgumentIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+    }
+
+    @Test
+    void containsReturnsFalseIfElementDoesntExist() {
+        tree.insert(10);
+
+        assertThat(tree.contains(100)).isFalse();
+    }
+
+    @Test
+    void containsThrowsExceptionIfParameterIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    void depthIsZeroIfTreeIsEmptyOrHasSingleElement() {
+        assertThat(tree.depth()).isEqualTo(0);
+        tree.insert(1);
+        assertThat(tree.depth()).isEqualTo(0);
+    }
+
+    @ParameterizedTest
+    @MethodSource("insertionOrders")
+    void depthIsLogarithmic(List<Integer> elements) {
+        elements.forEach(tree::insert);
+
+        var maxDepth = 2 * (32 - Integer.numberOfLeadingZeros(BIG_SIZE + 1));
+        assertThat(tree.size()).isEqualTo(BIG_SIZE);
+        assertThat(tree.depth()).isLessThanOrEqualTo(maxDepth);
+    }
+
+    @ParameterizedTest
+    @MethodSource("insertionOrders")
+    void inOrderTraversal(List<Integer> elements) {
+        elements.forEach(tree::insert);
+
+        var traversedElements = new ArrayList<Integer>(BIG_SIZE);
+        tree.inOrderTraversal(traversedElements::add);
+
+        assertThat(traversedElements).isEqualTo(sorted());
+    }
+
+    static Stream<Arguments> insertionOrders() {
+        var sorted = sorted();
+        var reverseSorted = new ArrayList<>(sorted);
+        Collections.reverse(reverseSorted);
+        var shuffled = new ArrayList<>(sorted);
+        Collections.shuffle(shuffled, new Random(42));
+        return Stream.of(arguments(sorted), arguments(reverseSorted), arguments(shuffled));
+    }
+
+    private static List<Integer> sorted() {
+        return IntStream.range(0, BIG_SIZE).boxed().collect(toList());
+    }
+}
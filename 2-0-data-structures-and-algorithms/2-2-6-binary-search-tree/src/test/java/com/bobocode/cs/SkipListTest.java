@@ -0,0 +1,98 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class SkipListTest {
+    private static final int BIG_SIZE = 100_000;
+
+    private final BinarySearchTree<Integer> skipList = new SkipList<>();
+
+    @Test
+    void of() {
+        var skipList = SkipList.of(10, 9, 11, 8, 12, 7);
+
+        assertThat(skipList.size()).isEqualTo(6);
+        for (int e = 7; e <= 12; e++) {
+            assertThat(skipList.contains(e)).isTrue();
+        }
+    }
+
+    @Test
+    void insert() {
+        assertThat(skipList.insert(10)).isTrue();
+        assertThat(skipList.insert(5)).isTrue();
+        assertThat(skipList.insert(15)).isTrue();
+        assertThat(skipList.insert(10)).isFalse();
+
+        assertThat(skipList.size()).isEqualTo(3);
+    }
+
+    @Test
+    void contains() {
+        skipList.insert(10);
+        skipList.insert(5);
+
+        assertThat(skipList.contains(5)).isTrue();
+        assertThat(skipList.contains(10)).isTrue();
+        assertThat(skipList.contains(7)).isFalse();
+        assertThat(skipList.contains(15)).isFalse();
+    }
+
+    @Test
+    void insertAndContainsThrowExceptionWhenArgumentIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> skipList.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> skipList.contains(null));
+    }
+
+    @Test
+    void emptySkipList() {
+        assertThat(skipList.size()).isZero();
+        assertThat(skipList.depth()).isZero();
+        assertThat(skipList.floor(1)).isNull();
+        assertThat(skipList.ceiling(1)).isNull();
+        assertThat(skipList.stream().collect(toList())).isEmpty();
+    }
+
+    @Test
+    void depthIsLogarithmicOnSortedInput() {
+        IntStream.range(0, BIG_SIZE).forEach(skipList::insert);
+
+        assertThat(skipList.size()).isEqualTo(BIG_SIZE);
+        assertThat(skipList.depth()).isBetween(4, 16);
+        IntStream.range(0, BIG_SIZE).forEach(e -> assertThat(skipList.contains(e)).isTrue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.125, 0.25, 0.5, 0.75})
+    void inOrderTraversalWithDifferentProbabilities(double probability) {
+        var elements = IntStream.range(0, 10_000).boxed().collect(toList());
+        Collections.shuffle(elements, new Random(42));
+        var skipList = new SkipList<Integer>(probability);
+        elements.forEach(skipList::insert);
+
+        List<Integer> traversedElements = new ArrayList<>();
+        skipList.inOrderTraversal(traversedElements::add);
+
+        assertThat(traversedElements).hasSize(10_000).isSorted();
+    }
+
+    @Test
+    void probabilityMustBeBetweenZeroAndOne() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new SkipList<Integer>(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new SkipList<Integer>(1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new SkipList<Integer>(Double.NaN));
+    }
+}
@@ -0,0 +1,302 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * {@link HashMap} is an implementation of {@link Map} interface that uses open addressing with Robin Hood hashing.
+ * Entries are not stored in linked nodes, but right in three parallel arrays of hashes, keys and values, so a lookup
+ * reads neighbouring cells of the same arrays instead of following references.
+ * <p>
+ * A key is placed in its home slot, defined by its hash, or in one of the following slots (linear probing). The
+ * distance from the home slot is called a probe length. When an inserted key reaches a slot whose key has a shorter
+ * probe length, they swap places and the insertion goes on with the displaced key ("take from the rich, give to the
+ * poor"). This keeps probe lengths short and even, so the table works well at a high load factor, and a lookup can
+ * stop as soon as it sees a key with a shorter probe length than the searched key would have at that slot.
+ * <p>
+ * A hash of every key is stored next to it. A zero hash marks an empty slot, the probe length of a key is computed
+ * from its hash, {@link Object#equals(Object)} is only called for keys with the same hash, and resizing does not call
+ * {@link Object#hashCode()} again. A removed entry is not replaced with a tombstone: the entries after it are shifted
+ * one slot back until an empty slot or a key in its home slot, so the table looks as if the key was never inserted.
+ * <p>
+ * The map does not support {@code null} keys.
+ *
+ * @param <K> a type of keys
+ * @param <V> a type of values
+ */
+public class HashMap<K, V> implements Map<K, V> {
+    static final float DEFAULT_LOAD_FACTOR = 0.85f;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final float loadFactor;
+    private int[] hashes;
+    private Object[] keys;
+    private Object[] values;
+    private int mask;
+    private int shift;
+    private int threshold;
+    private int size;
+
+    /**
+     * Creates an empty map with a default capacity and load factor 0.85.
+     */
+    public HashMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty map that can hold provided number of entries without resizing.
+     *
+     * @param expectedSize the number of entries
+     * @param loadFactor   the maximum ratio of the size to the capacity of the table, from 0 to 1 exclusive
+     * @throws IllegalArgumentException if the expected size is negative or the load factor is not in (0, 1)
+     */
+    public HashMap(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) throw new IllegalArgumentException("Invalid expected size " + expectedSize);
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Invalid load factor " + loadFactor);
+        }
+
+        this.loadFactor = loadFactor;
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Associates a value with a key, replacing a value that was associated with the key before.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the previous value associated with the key or null if there was none
+     * @throws NullPointerException if the key is null
+     */
+    @Override
+    public V put(K key, V value) {
+        final int hash = hash(key);
+        final int index = indexOf(key, hash);
+        if (index >= 0) {
+            final var previous = valueAt(index);
+            values[index] = value;
+            return previous;
+        }
+        if (size >= threshold) {
+            resize(hashes.length * 2);
+        }
+        insert(hash, key, value);
+        size++;
+        return null;
+    }
+
+    /**
+     * Returns a value associated with a key.
+     *
+     * @param key the key
+     * @return the value associated with the key or null if there is none
+     * @throws NullPointerException if the key is null
+     */
+    @Override
+    public V get(K key) {
+        final int index = indexOf(key, hash(key));
+        return index >= 0 ? valueAt(index) : null;
+    }
+
+    /**
+     * Checks if the map contains a key.
+     *
+     * @param key the key
+     * @return {@code true} if there is a value associated with the key, {@code false} otherwise
+     * @throws NullPointerException if the key is null
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return indexOf(key, hash(key)) >= 0;
+    }
+
+    /**
+     * Removes a key and a value associated with it, and shifts the following entries of the same cluster back.
+     *
+     * @param key the key
+     * @return the removed value or null if there was no value associated with the key
+     * @throws NullPointerException if the key is null
+     */
+    @Override
+    public V remove(K key) {
+        int index = indexOf(key, hash(key));
+        if (index < 0) return null;
+
+        final var removed = valueAt(index);
+        int next = (index + 1) & mask;
+        while (hashes[next] != 0 && probeLength(next) != 0) {
+            hashes[index] = hashes[next];
+            keys[index] = keys[next];
+            values[index] = values[next];
+            index = next;
+            next = (next + 1) & mask;
+        }
+        hashes[index] = 0;
+        keys[index] = null;
+        values[index] = null;
+        size--;
+        return removed;
+    }
+
+    /**
+     * Returns the number of keys in the map.
+     *
+     * @return the size of the map
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the map is empty.
+     *
+     * @return {@code true} if the map is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all keys and values from the map. The capacity does not change.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(hashes, 0);
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Performs an action for every key and its value in the map in no particular order.
+     *
+     * @param action the action to perform
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action);
+        for (int i = 0; i < hashes.length; i++) {
+            if (hashes[i] != 0) {
+                action.accept((K) keys[i], valueAt(i));
+            }
+        }
+    }
+
+    /**
+     * Shrinks the table to the smallest capacity that holds the current entries within the load factor. It is useful
+     * after many entries were removed, since removing does not shrink the table.
+     */
+    public void trimToSize() {
+        final int capacity = capacityFor(size);
+        if (capacity < hashes.length) {
+            resize(capacity);
+        }
+    }
+
+    /**
+     * Returns the number of slots in the table.
+     *
+     * @return the capacity of the map
+     */
+    public int capacity() {
+        return hashes.length;
+    }
+
+    /**
+     * Multiplies the hash code of a key by 2^32 divided by the golden ratio (Fibonacci hashing). The high bits of the
+     * product depend on all bits of the hash code, so they are used as a home slot, and keys with sequential hash codes
+     * spread evenly over the table. A zero hash is reserved for empty slots.
+     */
+    private static int hash(Object key) {
+        final int h = key.hashCode() * 0x9E3779B9;
+        return h == 0 ? 1 : h;
+    }
+
+    private int indexOf(Object key, int hash) {
+        int index = hash >>> shift;
+        for (int distance = 0; ; distance++) {
+            final int slotHash = hashes[index];
+            if (slotHash == 0 || probeLength(index) < distance) return -1;
+            if (slotHash == hash && key.equals(keys[index])) return index;
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Inserts an entry whose key is not in the map, displacing entries with shorter probe lengths.
+     */
+    private void insert(int hash, Object key, Object value) {
+        int index = hash >>> shift;
+        int distance = 0;
+        while (hashes[index] != 0) {
+            final int slotDistance = probeLength(index);
+            if (slotDistance < distance) {
+                final int displacedHash = hashes[index];
+                final var displacedKey = keys[index];
+                final var displacedValue = values[index];
+                hashes[index] = hash;
+                keys[index] = key;
+                values[index] = value;
+                hash = displacedHash;
+                key = displacedKey;
+                value = displacedValue;
+                distance = slotDistance;
+            }
+            index = (index + 1) & mask;
+            distance++;
+        }
+        hashes[index] = hash;
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    private int probeLength(int index) {
+        return (index - (hashes[index] >>> shift)) & mask;
+    }
+
+    private int capacityFor(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < MAX_CAPACITY && thresholdFor(capacity) < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private int thresholdFor(int capacity) {
+        return Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+
+    private void allocate(int capacity) {
+        hashes = new int[capacity];
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        threshold = thresholdFor(capacity);
+    }
+
+    private void resize(int capacity) {
+        if (capacity > MAX_CAPACITY) throw new IllegalStateException("Map is full");
+
+        final var oldHashes = hashes;
+        final var oldKeys = keys;
+        final var oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldHashes.length; i++) {
+            if (oldHashes[i] != 0) {
+                insert(oldHashes[i], oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int index) {
+        return (V) values[index];
+    }
+}
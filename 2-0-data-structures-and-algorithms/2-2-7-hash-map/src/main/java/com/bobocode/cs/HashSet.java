@@ -0,0 +1,118 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link HashSet} is a set of unique elements backed by a {@link HashMap}. Elements are the keys of the map, and all
+ * of them are mapped to the same marker value, so the set has the same open addressing layout and performance.
+ * The set does not support {@code null} elements.
+ *
+ * @param <E> a type of elements
+ */
+public class HashSet<E> {
+    private static final Object PRESENT = Boolean.TRUE;
+
+    private final HashMap<E, Object> map;
+
+    /**
+     * Creates an empty set with a default capacity and load factor.
+     */
+    public HashSet() {
+        this.map = new HashMap<>();
+    }
+
+    /**
+     * Creates an empty set that can hold provided number of elements without resizing.
+     *
+     * @param expectedSize the number of elements
+     * @param loadFactor   the maximum ratio of the size to the capacity of the table, from 0 to 1 exclusive
+     */
+    public HashSet(int expectedSize, float loadFactor) {
+        this.map = new HashMap<>(expectedSize, loadFactor);
+    }
+
+    /**
+     * Creates a set of provided elements, duplicates are added once.
+     *
+     * @param elements elements to add
+     * @param <E>      a type of elements
+     * @return a new set of elements
+     */
+    @SafeVarargs
+    public static <E> HashSet<E> of(E... elements) {
+        final var set = new HashSet<E>(elements.length, HashMap.DEFAULT_LOAD_FACTOR);
+        for (var element : elements) {
+            set.add(element);
+        }
+        return set;
+    }
+
+    /**
+     * Adds an element to the set if it is not there yet.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the set already contained it
+     * @throws NullPointerException if the element is null
+     */
+    public boolean add(E element) {
+        return map.put(element, PRESENT) == null;
+    }
+
+    /**
+     * Checks if the set contains an element.
+     *
+     * @param element the element
+     * @return {@code true} if the set contains the element, {@code false} otherwise
+     * @throws NullPointerException if the element is null
+     */
+    public boolean contains(E element) {
+        return map.containsKey(element);
+    }
+
+    /**
+     * Removes an element from the set.
+     *
+     * @param element the element to remove
+     * @return {@code true} if the element was removed, {@code false} if the set did not contain it
+     * @throws NullPointerException if the element is null
+     */
+    public boolean remove(E element) {
+        return map.remove(element) != null;
+    }
+
+    /**
+     * Returns the number of elements in the set.
+     *
+     * @return the size of the set
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Checks if the set is empty.
+     *
+     * @return {@code true} if the set is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    /**
+     * Removes all elements from the set.
+     */
+    public void clear() {
+        map.clear();
+    }
+
+    /**
+     * Performs an action for every element of the set in no particular order.
+     *
+     * @param action the action to perform
+     */
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        map.forEach((element, present) -> action.accept(element));
+    }
+}
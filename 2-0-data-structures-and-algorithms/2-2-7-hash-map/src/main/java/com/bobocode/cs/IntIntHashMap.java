@@ -0,0 +1,309 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@link IntIntHashMap} maps primitive {@code int} keys to {@code int} values. It works like {@link HashMap}, with
+ * Robin Hood hashing and backward shift deletion, but keeps keys and values in two {@code int[]} arrays, so an entry
+ * takes 8 bytes of the table instead of references to a node and two boxed {@link Integer} objects.
+ * <p>
+ * Key {@code 0} marks an empty slot, so a value of key {@code 0} is stored in a separate field. The probe length of a
+ * key is computed from its hash again when needed, which is cheaper than storing it for primitive keys.
+ */
+public class IntIntHashMap {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final float loadFactor;
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int shift;
+    private int threshold;
+    private int size;
+    private boolean hasZeroKey;
+    private int zeroKeyValue;
+
+    /**
+     * Creates an empty map with a default capacity and load factor 0.85.
+     */
+    public IntIntHashMap() {
+        this(DEFAULT_CAPACITY, HashMap.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty map that can hold provided number of entries without resizing.
+     *
+     * @param expectedSize the number of entries
+     * @param loadFactor   the maximum ratio of the size to the capacity of the table, from 0 to 1 exclusive
+     * @throws IllegalArgumentException if the expected size is negative or the load factor is not in (0, 1)
+     */
+    public IntIntHashMap(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) throw new IllegalArgumentException("Invalid expected size " + expectedSize);
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Invalid load factor " + loadFactor);
+        }
+
+        this.loadFactor = loadFactor;
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Associates a value with a key, replacing a value that was associated with the key before.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void put(int key, int value) {
+        if (key == 0) {
+            putZeroKey(value);
+            return;
+        }
+        final int index = indexOf(key);
+        if (index >= 0) {
+            values[index] = value;
+        } else {
+            insertNew(key, value);
+        }
+    }
+
+    /**
+     * Adds an increment to a value associated with a key, or associates the increment with the key if there is no
+     * value. It counts occurrences of keys with a single lookup.
+     *
+     * @param key       the key
+     * @param increment the increment
+     * @return the new value associated with the key
+     */
+    public int addTo(int key, int increment) {
+        if (key == 0) {
+            putZeroKey(hasZeroKey ? zeroKeyValue + increment : increment);
+            return zeroKeyValue;
+        }
+        final int index = indexOf(key);
+        if (index >= 0) {
+            return values[index] += increment;
+        }
+        insertNew(key, increment);
+        return increment;
+    }
+
+    /**
+     * Returns a value associated with a key or a default value if there is none.
+     *
+     * @param key          the key
+     * @param defaultValue the value to return if the key is not in the map
+     * @return the value associated with the key or the default value
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == 0) return hasZeroKey ? zeroKeyValue : defaultValue;
+
+        final int index = indexOf(key);
+        return index >= 0 ? values[index] : defaultValue;
+    }
+
+    /**
+     * Checks if the map contains a key.
+     *
+     * @param key the key
+     * @return {@code true} if there is a value associated with the key, {@code false} otherwise
+     */
+    public boolean containsKey(int key) {
+        return key == 0 ? hasZeroKey : indexOf(key) >= 0;
+    }
+
+    /**
+     * Removes a key and a value associated with it, and shifts the following entries of the same cluster back.
+     *
+     * @param key the key
+     * @return {@code true} if the key was removed, {@code false} if it was not in the map
+     */
+    public boolean remove(int key) {
+        if (key == 0) {
+            if (!hasZeroKey) return false;
+            hasZeroKey = false;
+            size--;
+            return true;
+        }
+        int index = indexOf(key);
+        if (index < 0) return false;
+
+        int next = (index + 1) & mask;
+        while (keys[next] != 0 && probeLength(next) != 0) {
+            keys[index] = keys[next];
+            values[index] = values[next];
+            index = next;
+            next = (next + 1) & mask;
+        }
+        keys[index] = 0;
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns the number of keys in the map.
+     *
+     * @return the size of the map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the map is empty.
+     *
+     * @return {@code true} if the map is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all keys and values from the map. The capacity does not change.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    /**
+     * Performs an action for every key and its value in the map in no particular order.
+     *
+     * @param action the action to perform
+     */
+    public void forEach(EntryConsumer action) {
+        Objects.requireNonNull(action);
+        if (hasZeroKey) {
+            action.accept(0, zeroKeyValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Shrinks the table to the smallest capacity that holds the current entries within the load factor.
+     */
+    public void trimToSize() {
+        final int capacity = capacityFor(size);
+        if (capacity < keys.length) {
+            resize(capacity);
+        }
+    }
+
+    /**
+     * Returns the number of slots in the table.
+     *
+     * @return the capacity of the map
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Returns a home slot of a key: the high bits of the key multiplied by 2^32 divided by the golden ratio
+     * (Fibonacci hashing). They depend on all bits of the key, so sequential keys spread evenly over the table.
+     */
+    private int home(int key) {
+        return (key * 0x9E3779B9) >>> shift;
+    }
+
+    private void putZeroKey(int value) {
+        if (!hasZeroKey) {
+            hasZeroKey = true;
+            size++;
+        }
+        zeroKeyValue = value;
+    }
+
+    private int indexOf(int key) {
+        int index = home(key);
+        for (int distance = 0; ; distance++) {
+            final int slotKey = keys[index];
+            if (slotKey == key) return index;
+            if (slotKey == 0 || probeLength(index) < distance) return -1;
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void insertNew(int key, int value) {
+        if (size - (hasZeroKey ? 1 : 0) >= threshold) {
+            resize(keys.length * 2);
+        }
+        insert(key, value);
+        size++;
+    }
+
+    /**
+     * Inserts an entry whose key is not in the map, displacing entries with shorter probe lengths.
+     */
+    private void insert(int key, int value) {
+        int index = home(key);
+        int distance = 0;
+        while (keys[index] != 0) {
+            final int slotDistance = probeLength(index);
+            if (slotDistance < distance) {
+                final int displacedKey = keys[index];
+                final int displacedValue = values[index];
+                keys[index] = key;
+                values[index] = value;
+                key = displacedKey;
+                value = displacedValue;
+                distance = slotDistance;
+            }
+            index = (index + 1) & mask;
+            distance++;
+        }
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    private int probeLength(int index) {
+        return (index - home(keys[index])) & mask;
+    }
+
+    private int capacityFor(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < MAX_CAPACITY && thresholdFor(capacity) < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private int thresholdFor(int capacity) {
+        return Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        threshold = thresholdFor(capacity);
+    }
+
+    private void resize(int capacity) {
+        if (capacity > MAX_CAPACITY) throw new IllegalStateException("Map is full");
+
+        final var oldKeys = keys;
+        final var oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                insert(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    /**
+     * An action performed for every entry of a {@link IntIntHashMap}, without boxing keys and values.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(int key, int value);
+    }
+}
@@ -0,0 +1,72 @@
+package com.bobocode.cs;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Map is a data structure that associates keys with values. Each key is mapped to at most one value, and a value is
+ * found by its key. Operations {@link Map#put(Object, Object)}, {@link Map#get(Object)} and
+ * {@link Map#remove(Object)} of a hash map take constant time on average.
+ *
+ * @param <K> a type of keys
+ * @param <V> a type of values
+ */
+public interface Map<K, V> {
+    /**
+     * Associates a value with a key, replacing a value that was associated with the key before.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the previous value associated with the key or null if there was none
+     */
+    V put(K key, V value);
+
+    /**
+     * Returns a value associated with a key.
+     *
+     * @param key the key
+     * @return the value associated with the key or null if there is none
+     */
+    V get(K key);
+
+    /**
+     * Checks if the map contains a key.
+     *
+     * @param key the key
+     * @return {@code true} if there is a value associated with the key, {@code false} otherwise
+     */
+    boolean containsKey(K key);
+
+    /**
+     * Removes a key and a value associated with it.
+     *
+     * @param key the key
+     * @return the removed value or null if there was no value associated with the key
+     */
+    V remove(K key);
+
+    /**
+     * Returns the number of keys in the map.
+     *
+     * @return the size of the map
+     */
+    int size();
+
+    /**
+     * Checks if the map is empty.
+     *
+     * @return {@code true} if the map is empty, {@code false} otherwise
+     */
+    boolean isEmpty();
+
+    /**
+     * Removes all keys and values from the map.
+     */
+    void clear();
+
+    /**
+     * Performs an action for every key and its value in the map in no particular order.
+     *
+     * @param action the action to perform
+     */
+    void forEach(BiConsumer<? super K, ? super V> action);
+}
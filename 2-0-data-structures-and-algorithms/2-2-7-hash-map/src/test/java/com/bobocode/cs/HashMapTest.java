@@ -0,0 +1,183 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class HashMapTest {
+
+    private final Map<String, Integer> map = new HashMap<>();
+
+    @Test
+    void putAndGet() {
+        assertThat(map.put("one", 1)).isNull();
+        assertThat(map.put("two", 2)).isNull();
+
+        assertThat(map.get("one")).isEqualTo(1);
+        assertThat(map.get("two")).isEqualTo(2);
+        assertThat(map.get("three")).isNull();
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    void putReplacesValue() {
+        map.put("one", 1);
+
+        assertThat(map.put("one", 11)).isEqualTo(1);
+        assertThat(map.get("one")).isEqualTo(11);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void nullValuesAreSupported() {
+        map.put("one", null);
+
+        assertThat(map.containsKey("one")).isTrue();
+        assertThat(map.get("one")).isNull();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void nullKeysAreRejected() {
+        assertThatNullPointerException().isThrownBy(() -> map.put(null, 1));
+        assertThatNullPointerException().isThrownBy(() -> map.get(null));
+    }
+
+    @Test
+    void removeReturnsRemovedValue() {
+        map.put("one", 1);
+        map.put("two", 2);
+
+        assertThat(map.remove("one")).isEqualTo(1);
+        assertThat(map.remove("one")).isNull();
+        assertThat(map.containsKey("one")).isFalse();
+        assertThat(map.get("two")).isEqualTo(2);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void clearRemovesAllEntries() {
+        map.put("one", 1);
+        map.put("two", 2);
+
+        map.clear();
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get("one")).isNull();
+        map.put("one", 1);
+        assertThat(map.get("one")).isEqualTo(1);
+    }
+
+    @Test
+    void forEachVisitsEveryEntry() {
+        for (int i = 0; i < 100; i++) {
+            map.put("key" + i, i);
+        }
+
+        java.util.Map<String, Integer> visited = new java.util.HashMap<>();
+        map.forEach(visited::put);
+
+        assertThat(visited).hasSize(100).containsEntry("key42", 42);
+    }
+
+    @Test
+    void loadFactorMustBeBetweenZeroAndOne() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new HashMap<>(16, 0f));
+        assertThatIllegalArgumentException().isThrownBy(() -> new HashMap<>(16, 1f));
+        assertThatIllegalArgumentException().isThrownBy(() -> new HashMap<>(-1, 0.5f));
+    }
+
+    @Test
+    void expectedSizeFitsWithoutResizing() {
+        HashMap<Integer, Integer> presized = new HashMap<>(1000, 0.85f);
+        int capacity = presized.capacity();
+
+        for (int i = 0; i < 1000; i++) {
+            presized.put(i, i);
+        }
+
+        assertThat(presized.capacity()).isEqualTo(capacity).isEqualTo(2048);
+    }
+
+    @Test
+    void trimToSizeShrinksTableAfterRemovals() {
+        HashMap<Integer, Integer> shrinking = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            shrinking.put(i, i);
+        }
+        for (int i = 10; i < 10_000; i++) {
+            shrinking.remove(i);
+        }
+
+        shrinking.trimToSize();
+
+        assertThat(shrinking.capacity()).isEqualTo(16);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(shrinking.get(i)).isEqualTo(i < 10 ? i : null);
+        }
+    }
+
+    @Test
+    void keysWithSameHashCodeAreDistinguished() {
+        Map<CollidingKey, Integer> collidingMap = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            collidingMap.put(new CollidingKey(i), i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            collidingMap.remove(new CollidingKey(i));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(collidingMap.get(new CollidingKey(i))).isEqualTo(i % 2 == 0 ? null : i);
+        }
+        assertThat(collidingMap.size()).isEqualTo(50);
+    }
+
+    @ParameterizedTest
+    @ValueSource(floats = {0.5f, 0.75f, 0.85f, 0.95f})
+    void randomOperationsMatchJdkHashMap(float loadFactor) {
+        Map<Integer, Integer> randomMap = new HashMap<>(0, loadFactor);
+        java.util.Map<Integer, Integer> expected = new java.util.HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(5_000) - 2_500;
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertThat(randomMap.put(key, i)).isEqualTo(expected.put(key, i));
+                    break;
+                case 1:
+                    assertThat(randomMap.remove(key)).isEqualTo(expected.remove(key));
+                    break;
+                default:
+                    assertThat(randomMap.get(key)).isEqualTo(expected.get(key));
+            }
+            assertThat(randomMap.size()).isEqualTo(expected.size());
+        }
+        expected.forEach((key, value) -> assertThat(randomMap.get(key)).isEqualTo(value));
+    }
+
+    private static final class CollidingKey {
+        private final int id;
+
+        private CollidingKey(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CollidingKey && ((CollidingKey) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return id % 3;
+        }
+    }
+}
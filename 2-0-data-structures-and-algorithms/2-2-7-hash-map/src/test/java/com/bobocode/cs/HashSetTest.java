@@ -0,0 +1,60 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class HashSetTest {
+
+    @Test
+    void addKeepsElementsUnique() {
+        HashSet<String> set = new HashSet<>();
+
+        assertThat(set.add("a")).isTrue();
+        assertThat(set.add("b")).isTrue();
+        assertThat(set.add("a")).isFalse();
+
+        assertThat(set.size()).isEqualTo(2);
+        assertThat(set.contains("a")).isTrue();
+        assertThat(set.contains("c")).isFalse();
+    }
+
+    @Test
+    void ofAddsDuplicatesOnce() {
+        HashSet<Integer> set = HashSet.of(3, 1, 3, 2, 1);
+
+        List<Integer> elements = new ArrayList<>();
+        set.forEach(elements::add);
+
+        assertThat(elements).containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    @Test
+    void removeAndClear() {
+        HashSet<Integer> set = HashSet.of(1, 2, 3);
+
+        assertThat(set.remove(2)).isTrue();
+        assertThat(set.remove(2)).isFalse();
+        assertThat(set.size()).isEqualTo(2);
+
+        set.clear();
+
+        assertThat(set.isEmpty()).isTrue();
+        assertThat(set.contains(1)).isFalse();
+    }
+
+    @Test
+    void nullElementsAreRejected() {
+        assertThatNullPointerException().isThrownBy(() -> new HashSet<String>().add(null));
+    }
+
+    @Test
+    void forEachRejectsNullActionEvenIfSetIsEmpty() {
+        assertThatNullPointerException().isThrownBy(() -> new HashSet<String>().forEach(null));
+        assertThatNullPointerException().isThrownBy(() -> HashSet.of(1, 2).forEach(null));
+    }
+}
@@ -0,0 +1,64 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntIntHashMapTest {
+
+    private final IntIntHashMap map = new IntIntHashMap();
+
+    @Test
+    void putAndGet() {
+        map.put(1, 10);
+        map.put(-1, -10);
+        map.put(Integer.MIN_VALUE, 7);
+        map.put(1, 11);
+
+        assertThat(map.getOrDefault(1, 0)).isEqualTo(11);
+        assertThat(map.getOrDefault(-1, 0)).isEqualTo(-10);
+        assertThat(map.getOrDefault(Integer.MIN_VALUE, 0)).isEqualTo(7);
+        assertThat(map.getOrDefault(2, -1)).isEqualTo(-1);
+        assertThat(map.size()).isEqualTo(3);
+    }
+
+    @Test
+    void zeroKeyIsStoredSeparately() {
+        map.put(0, 5);
+
+        assertThat(map.containsKey(0)).isTrue();
+        assertThat(map.addTo(0, 2)).isEqualTo(7);
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.remove(0)).isTrue();
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    void randomOperationsMatchJdkHashMap() {
+        java.util.Map<Integer, Integer> expected = new java.util.HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(5_000) - 2_500;
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertThat(map.addTo(key, 1)).isEqualTo(expected.merge(key, 1, Integer::sum));
+                    break;
+                case 1:
+                    assertThat(map.remove(key)).isEqualTo(expected.remove(key) != null);
+                    break;
+                default:
+                    assertThat(map.getOrDefault(key, -1)).isEqualTo(expected.getOrDefault(key, -1));
+            }
+            assertThat(map.size()).isEqualTo(expected.size());
+        }
+        int[] visited = {0};
+        map.forEach((key, value) -> {
+            assertThat(expected.get(key)).isEqualTo(value);
+            visited[0]++;
+        });
+        assertThat(visited[0]).isEqualTo(expected.size());
+    }
+}
@@ -0,0 +1,120 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class LongLongHashMapTest {
+
+    private final LongLongHashMap map = new LongLongHashMap();
+
+    @Test
+    void putAndGet() {
+        map.put(1L, 10L);
+        map.put(-1L, -10L);
+        map.put(Long.MIN_VALUE, 7L);
+
+        assertThat(map.getOrDefault(1L, 0)).isEqualTo(10L);
+        assertThat(map.getOrDefault(-1L, 0)).isEqualTo(-10L);
+        assertThat(map.getOrDefault(Long.MIN_VALUE, 0)).isEqualTo(7L);
+        assertThat(map.getOrDefault(2L, -1)).isEqualTo(-1L);
+        assertThat(map.size()).isEqualTo(3);
+    }
+
+    @Test
+    void zeroKeyIsStoredSeparately() {
+        assertThat(map.containsKey(0)).isFalse();
+
+        map.put(0, 5);
+        map.put(16, 6);
+
+        assertThat(map.containsKey(0)).isTrue();
+        assertThat(map.getOrDefault(0, -1)).isEqualTo(5);
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.addTo(0, 2)).isEqualTo(7);
+        assertThat(map.remove(0)).isTrue();
+        assertThat(map.remove(0)).isFalse();
+        assertThat(map.getOrDefault(0, -1)).isEqualTo(-1);
+        assertThat(map.getOrDefault(16, -1)).isEqualTo(6);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void addToCountsKeys() {
+        for (long key : new long[]{3, 1, 3, 0, 3, 1}) {
+            map.addTo(key, 1);
+        }
+
+        assertThat(map.getOrDefault(3, 0)).isEqualTo(3);
+        assertThat(map.getOrDefault(1, 0)).isEqualTo(2);
+        assertThat(map.getOrDefault(0, 0)).isEqualTo(1);
+        assertThat(map.size()).isEqualTo(3);
+    }
+
+    @Test
+    void forEachVisitsEveryEntry() {
+        map.put(0, 1);
+        for (long key = 1; key <= 100; key++) {
+            map.put(key * 1_000_003L, key);
+        }
+
+        long[] sums = new long[2];
+        map.forEach((key, value) -> {
+            sums[0] += key;
+            sums[1] += value;
+        });
+
+        assertThat(sums[0]).isEqualTo(5050L * 1_000_003L);
+        assertThat(sums[1]).isEqualTo(5051L);
+    }
+
+    @Test
+    void clearAndTrimToSize() {
+        for (long key = 0; key < 10_000; key++) {
+            map.put(key, key);
+        }
+        for (long key = 5; key < 10_000; key++) {
+            map.remove(key);
+        }
+
+        map.trimToSize();
+
+        assertThat(map.capacity()).isEqualTo(16);
+        assertThat(map.getOrDefault(4, -1)).isEqualTo(4);
+        assertThat(map.getOrDefault(5, -1)).isEqualTo(-1);
+        map.clear();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.containsKey(4)).isFalse();
+    }
+
+    @Test
+    void loadFactorMustBeBetweenZeroAndOne() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new LongLongHashMap(16, 1.5f));
+    }
+
+    @Test
+    void randomOperationsMatchJdkHashMap() {
+        java.util.Map<Long, Long> expected = new java.util.HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = (random.nextInt(5_000) - 2_500) * 4_096L;
+            switch (random.nextInt(3)) {
+                case 0:
+                    map.put(key, i);
+                    expected.put(key, (long) i);
+                    break;
+                case 1:
+                    assertThat(map.remove(key)).isEqualTo(expected.remove(key) != null);
+                    break;
+                default:
+                    assertThat(map.getOrDefault(key, -1)).isEqualTo(expected.getOrDefault(key, -1L));
+            }
+            assertThat(map.size()).isEqualTo(expected.size());
+        }
+        expected.forEach((key, value) -> assertThat(map.getOrDefault(key, -1)).isEqualTo(value));
+    }
+}
@@ -0,0 +1,122 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.ArrayStack;
+import com.bobocode.cs.IntStack;
+import com.bobocode.cs.LinkedStack;
+import com.bobocode.cs.Stack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ArrayStack}, with and without shrinking, and {@link IntStack} with {@link LinkedStack}. Run it with
+ * {@code -prof gc} to see that array-based stacks do not allocate once they have grown.
+ * <p>
+ * {@code churn} reuses one stack and repeatedly pushes {@code depth} elements and pops all of them, the way an
+ * expression evaluator uses its operand stack. {@code fillAndDrain} does the same with a new stack every time, so it
+ * also measures growing the array. {@code int*} benchmarks do the same with {@link IntStack}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ArrayStackBenchmark {
+
+    @Param({"16", "1000", "100000"})
+    private int depth;
+
+    private Integer[] elements;
+    private int[] intElements;
+    private IntStack intStack;
+
+    @Setup
+    public void setUp() {
+        elements = BenchmarkData.shuffledElements(depth);
+        intElements = new int[depth];
+        for (int i = 0; i < depth; i++) {
+            intElements[i] = elements[i];
+        }
+        intStack = new IntStack();
+    }
+
+    @Benchmark
+    public long churn(StackState state) {
+        return pushAndPopAll(state.stack);
+    }
+
+    @Benchmark
+    public long fillAndDrain(StackState state) {
+        return pushAndPopAll(state.newStack());
+    }
+
+    @Benchmark
+    public long intChurn() {
+        return pushAndPopAll(intStack);
+    }
+
+    @Benchmark
+    public long intFillAndDrain() {
+        return pushAndPopAll(new IntStack());
+    }
+
+    private long pushAndPopAll(Stack<Integer> stack) {
+        for (var element : elements) {
+            stack.push(element);
+        }
+        long sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    private long pushAndPopAll(IntStack stack) {
+        for (int element : intElements) {
+            stack.push(element);
+        }
+        long sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    @State(Scope.Thread)
+    public static class StackState {
+
+        @Param({"linked", "array", "array-shrink"})
+        private String implementation;
+
+        private Stack<Integer> stack;
+
+        @Setup
+        public void setUp() {
+            stack = newStack();
+        }
+
+        private Stack<Integer> newStack() {
+            switch (implementation) {
+                case "linked":
+                    return new LinkedStack<>();
+                case "array":
+                    return new ArrayStack<>();
+                case "array-shrink":
+                    return new ArrayStack<>(5, true);
+                default:
+                    throw new IllegalArgumentException("Unknown implementation: " + implementation);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.BinarySearchTree;
+import com.bobocode.cs.RecursiveBinarySearchTree;
+import com.bobocode.cs.RedBlackBinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link BinarySearchTree} implementations on sorted, reverse sorted and random input. An unbalanced tree
+ * degrades into a linked list on sorted input, so its insert is quadratic there.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class BalancedBinarySearchTreeBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"SORTED", "REVERSE_SORTED", "RANDOM"})
+    private String order;
+
+    @Param({"recursive", "red-black"})
+    private String implementation;
+
+    private Integer[] elements;
+    private int[] indices;
+    private int nextIndex;
+
+    private BinarySearchTree<Integer> tree;
+
+    @Setup
+    public void setUp() {
+        switch (order) {
+            case "SORTED":
+                elements = BenchmarkData.sortedElements(size);
+                break;
+            case "REVERSE_SORTED":
+                elements = BenchmarkData.reverseSortedElements(size);
+                break;
+            default:
+                elements = BenchmarkData.shuffledElements(size);
+        }
+        indices = BenchmarkData.randomIndices(1024, size);
+        tree = fill(newTree());
+    }
+
+    private BinarySearchTree<Integer> newTree() {
+        switch (implementation) {
+            case "recursive":
+                return new RecursiveBinarySearchTree<>();
+            case "red-black":
+                return new RedBlackBinarySearchTree<>();
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    private BinarySearchTree<Integer> fill(BinarySearchTree<Integer> tree) {
+        for (var element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    @Benchmark
+    public BinarySearchTree<Integer> insert() {
+        return fill(newTree());
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return tree.contains(elements[indices[nextIndex++ & (indices.length - 1)]]);
+    }
+
+    @Benchmark
+    public int depth() {
+        return tree.depth();
+    }
+}
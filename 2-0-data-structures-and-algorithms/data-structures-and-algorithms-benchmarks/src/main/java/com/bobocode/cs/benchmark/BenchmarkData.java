@@ -0,0 +1,78 @@
+package com.bobocode.cs.benchmark;
+
+import java.util.Random;
+
+/**
+ * A class that consists of static methods only and provides input data for benchmarks. All the data is generated
+ * with a fixed seed, so every fork and every implementation under test receives exactly the same elements. Elements
+ * are boxed upfront, so boxing does not end up in the measured code.
+ */
+public class BenchmarkData {
+    private static final long SEED = 42L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Creates an array of elements {@code 0..size-1} in ascending order.
+     *
+     * @param size number of elements
+     * @return sorted array of distinct elements
+     */
+    public static Integer[] sortedElements(int size) {
+        final var elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+        return elements;
+    }
+
+    /**
+     * Creates an array of elements {@code size-1..0} in descending order.
+     *
+     * @param size number of elements
+     * @return reverse sorted array of distinct elements
+     */
+    public static Integer[] reverseSortedElements(int size) {
+        final var elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = size - 1 - i;
+        }
+        return elements;
+    }
+
+    /**
+     * Creates an array of elements {@code 0..size-1} shuffled in a random (but reproducible) order.
+     *
+     * @param size number of elements
+     * @return shuffled array of distinct elements
+     */
+    public static Integer[] shuffledElements(int size) {
+        final var elements = sortedElements(size);
+        final var random = new Random(SEED);
+        for (int i = size - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final var tmp = elements[i];
+            elements[i] = elements[j];
+            elements[j] = tmp;
+        }
+        return elements;
+    }
+
+    /**
+     * Creates an array of random indices in range {@code [0, bound)}. Benchmarks walk through this array instead of
+     * calling {@link Random} inside the measured method.
+     *
+     * @param length number of indices
+     * @param bound  upper bound (exclusive)
+     * @return array of random indices
+     */
+    public static int[] randomIndices(int length, int bound) {
+        final var random = new Random(SEED);
+        final var indices = new int[length];
+        for (int i = 0; i < length; i++) {
+            indices[i] = random.nextInt(bound);
+        }
+        return indices;
+    }
+}
@@ -0,0 +1,141 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.BinarySearchTree;
+import com.bobocode.cs.RecursiveBinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link RecursiveBinarySearchTree} against {@link TreeSet} as a baseline. Elements are inserted in a
+ * random order, so the unbalanced tree stays reasonably shallow and can be compared with a red-black tree at all sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BinarySearchTreeBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private Integer[] elements;
+    private int[] indices;
+    private int nextIndex;
+    private Integer missingElement;
+
+    private BinarySearchTree<Integer> tree;
+    private TreeSet<Integer> jdkTree;
+
+    @Setup
+    public void setUp() {
+        elements = BenchmarkData.shuffledElements(size);
+        indices = BenchmarkData.randomIndices(1024, size);
+        missingElement = -1;
+        tree = new RecursiveBinarySearchTree<>();
+        jdkTree = new TreeSet<>();
+        for (var element : elements) {
+            tree.insert(element);
+            jdkTree.add(element);
+        }
+    }
+
+    private int nextIndex() {
+        return indices[nextIndex++ & (indices.length - 1)];
+    }
+
+    @Benchmark
+    public BinarySearchTree<Integer> insert() {
+        final var newTree = new RecursiveBinarySearchTree<Integer>();
+        for (var element : elements) {
+            newTree.insert(element);
+        }
+        return newTree;
+    }
+
+    @Benchmark
+    public TreeSet<Integer> jdkInsert() {
+        final var newTree = new TreeSet<Integer>();
+        for (var element : elements) {
+            newTree.add(element);
+        }
+        return newTree;
+    }
+
+    @Benchmark
+    public BinarySearchTree<Integer> bulkBuild() {
+        return RecursiveBinarySearchTree.of(elements);
+    }
+
+    @Benchmark
+    public TreeSet<Integer> jdkBulkBuild() {
+        return new TreeSet<>(Arrays.asList(elements));
+    }
+
+    @Benchmark
+    public boolean containsExisting() {
+        return tree.contains(elements[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean jdkContainsExisting() {
+        return jdkTree.contains(elements[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return tree.contains(missingElement);
+    }
+
+    @Benchmark
+    public boolean jdkContainsMissing() {
+        return jdkTree.contains(missingElement);
+    }
+
+    @Benchmark
+    public int depth() {
+        return tree.depth();
+    }
+
+    @Benchmark
+    public void inOrderTraversal(Blackhole blackhole) {
+        tree.inOrderTraversal(blackhole::consume);
+    }
+
+    @Benchmark
+    public void jdkInOrderTraversal(Blackhole blackhole) {
+        for (var element : jdkTree) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public long sequentialSum() {
+        return tree.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallelSum() {
+        return tree.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long jdkParallelSum() {
+        return jdkTree.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+}
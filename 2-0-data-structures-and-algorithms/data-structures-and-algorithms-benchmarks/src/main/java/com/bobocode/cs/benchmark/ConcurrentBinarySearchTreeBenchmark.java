@@ -0,0 +1,126 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.BinarySearchTree;
+import com.bobocode.cs.ConcurrentBinarySearchTree;
+import com.bobocode.cs.ConcurrentSkipList;
+import com.bobocode.cs.RecursiveBinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ConcurrentBinarySearchTree} and {@link ConcurrentSkipList} with a {@link RecursiveBinarySearchTree}
+ * guarded by a global lock, which is how a tree is usually shared between threads. Each benchmark is run by 1, 4 and
+ * 16 threads. The read-only workload only looks elements up, the mixed one inserts a random element on every tenth
+ * operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ConcurrentBinarySearchTreeBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"lock-free", "skip-list", "locked"})
+    private String implementation;
+
+    private BinarySearchTree<Integer> tree;
+    private boolean locked;
+    private final Object lock = new Object();
+
+    @Setup
+    public void setUp() {
+        tree = newTree();
+        locked = "locked".equals(implementation);
+        for (var element : BenchmarkData.shuffledElements(size)) {
+            tree.insert(element);
+        }
+    }
+
+    private BinarySearchTree<Integer> newTree() {
+        switch (implementation) {
+            case "lock-free":
+                return new ConcurrentBinarySearchTree<>();
+            case "skip-list":
+                return new ConcurrentSkipList<>();
+            case "locked":
+                return new RecursiveBinarySearchTree<>();
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    private boolean contains() {
+        final Integer element = ThreadLocalRandom.current().nextInt(2 * size);
+        if (locked) {
+            synchronized (lock) {
+                return tree.contains(element);
+            }
+        }
+        return tree.contains(element);
+    }
+
+    private boolean containsOrInsert() {
+        final var random = ThreadLocalRandom.current();
+        if (random.nextInt(10) != 0) return contains();
+        final Integer element = random.nextInt();
+        if (locked) {
+            synchronized (lock) {
+                return tree.insert(element);
+            }
+        }
+        return tree.insert(element);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean readOnly1Thread() {
+        return contains();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean readOnly4Threads() {
+        return contains();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean readOnly16Threads() {
+        return contains();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean mixed1Thread() {
+        return containsOrInsert();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean mixed4Threads() {
+        return containsOrInsert();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean mixed16Threads() {
+        return containsOrInsert();
+    }
+}
@@ -0,0 +1,154 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.DaryHeapPriorityQueue;
+import com.bobocode.cs.IndexedDaryHeap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link DaryHeapPriorityQueue} of arity 2, 4 and 8 with each other and with {@link PriorityQueue}, a binary
+ * heap, as a baseline. {@code jdk*} benchmarks do not depend on the arity.
+ * <p>
+ * {@code addAndPollAll} adds {@code size} shuffled elements one by one and polls all of them, while
+ * {@code heapifyAndPollAll} builds the heap in O(n) first. {@code addAndPoll} keeps a heap of {@code size} elements
+ * and adds one element and polls the smallest one, like a scheduler in a steady state. {@code decreaseKey} inserts
+ * every key of {@link IndexedDaryHeap} with a large priority, lowers all of them in random order and polls them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class DaryHeapBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Integer[] elements;
+    private Integer[] largePriorities;
+    private int[] indices;
+    private int nextIndex;
+
+    private PriorityQueue<Integer> jdkHeap;
+
+    @Setup
+    public void setUp() {
+        elements = BenchmarkData.shuffledElements(size);
+        largePriorities = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            largePriorities[i] = size + i;
+        }
+        indices = BenchmarkData.randomIndices(1024, size);
+        jdkHeap = new PriorityQueue<>(Comparator.naturalOrder());
+        for (var element : elements) {
+            jdkHeap.add(element);
+        }
+    }
+
+    private Integer nextElement() {
+        return elements[indices[nextIndex++ & 1023]];
+    }
+
+    @Benchmark
+    public long addAndPollAll(HeapState state) {
+        final var heap = new DaryHeapPriorityQueue<Integer>(Comparator.naturalOrder(), state.arity);
+        for (var element : elements) {
+            heap.add(element);
+        }
+        return pollAll(heap);
+    }
+
+    @Benchmark
+    public long heapifyAndPollAll(HeapState state) {
+        return pollAll(DaryHeapPriorityQueue.heapify(elements, Comparator.naturalOrder(), state.arity));
+    }
+
+    @Benchmark
+    public long jdkAddAndPollAll() {
+        final var heap = new PriorityQueue<Integer>(Comparator.naturalOrder());
+        for (var element : elements) {
+            heap.add(element);
+        }
+        return pollAll(heap);
+    }
+
+    @Benchmark
+    public long jdkHeapifyAndPollAll() {
+        return pollAll(new PriorityQueue<>(Arrays.asList(elements)));
+    }
+
+    @Benchmark
+    public Integer addAndPoll(HeapState state) {
+        state.heap.add(nextElement());
+        return state.heap.poll();
+    }
+
+    @Benchmark
+    public Integer jdkAddAndPoll() {
+        jdkHeap.add(nextElement());
+        return jdkHeap.poll();
+    }
+
+    @Benchmark
+    public long decreaseKey(HeapState state) {
+        final var heap = new IndexedDaryHeap<Integer>(size, Comparator.naturalOrder(), state.arity);
+        for (int key = 0; key < size; key++) {
+            heap.insert(key, largePriorities[key]);
+        }
+        for (int key = size - 1; key >= 0; key--) {
+            heap.decreaseKey(elements[key], elements[size - 1 - key]);
+        }
+        long sum = 0;
+        while (!heap.isEmpty()) {
+            sum += heap.pollKey();
+        }
+        return sum;
+    }
+
+    private static long pollAll(DaryHeapPriorityQueue<Integer> heap) {
+        long sum = 0;
+        Integer element;
+        while ((element = heap.poll()) != null) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    private static long pollAll(PriorityQueue<Integer> heap) {
+        long sum = 0;
+        Integer element;
+        while ((element = heap.poll()) != null) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @State(Scope.Thread)
+    public static class HeapState {
+
+        @Param({"2", "4", "8"})
+        private int arity;
+
+        private DaryHeapPriorityQueue<Integer> heap;
+
+        @Setup
+        public void setUp(DaryHeapBenchmark benchmark) {
+            heap = DaryHeapPriorityQueue.heapify(benchmark.elements, Comparator.naturalOrder(), arity);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.BinarySearchTree;
+import com.bobocode.cs.EytzingerBinarySearchTree;
+import com.bobocode.cs.RecursiveBinarySearchTree;
+import com.bobocode.cs.RedBlackBinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares lookups in a flat {@link EytzingerBinarySearchTree} with lookups in linked trees. Elements are looked up in
+ * a random order that is much longer than the tree is deep, so the lower levels of the tree do not fit into cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class EytzingerBinarySearchTreeBenchmark {
+    private static final int LOOKUPS = 1 << 20;
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"recursive", "red-black", "eytzinger"})
+    private String implementation;
+
+    private int[] lookups;
+    private Integer[] elements;
+    private int nextLookup;
+
+    private BinarySearchTree<Integer> tree;
+
+    @Setup
+    public void setUp() {
+        final var sortedElements = BenchmarkData.sortedElements(size);
+        elements = BenchmarkData.shuffledElements(2 * size);
+        lookups = BenchmarkData.randomIndices(LOOKUPS, 2 * size);
+        switch (implementation) {
+            case "recursive":
+                tree = new RecursiveBinarySearchTree<>();
+                break;
+            case "red-black":
+                tree = new RedBlackBinarySearchTree<>();
+                break;
+            case "eytzinger":
+                tree = EytzingerBinarySearchTree.ofSorted(sortedElements);
+                return;
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+        for (var element : BenchmarkData.shuffledElements(size)) {
+            tree.insert(element);
+        }
+    }
+
+    /**
+     * Looks up elements in range {@code [0, 2 * size)}, so about a half of the lookups hit and a half miss.
+     */
+    @Benchmark
+    public boolean contains() {
+        return tree.contains(elements[lookups[nextLookup++ & (LOOKUPS - 1)]]);
+    }
+}
@@ -0,0 +1,190 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.HashMap;
+import com.bobocode.cs.IntIntHashMap;
+import com.bobocode.cs.LongLongHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks open addressing {@link HashMap} against {@link java.util.HashMap} with the same boxed keys, and
+ * {@link LongLongHashMap} and {@link IntIntHashMap} against {@link java.util.HashMap} with boxed {@link Long} and
+ * {@link Integer} keys and values. {@link HashMap} benchmarks run with load factors from 0.5 to 0.95.
+ * <p>
+ * {@code getHit} and {@code getMiss} look up random keys that are or are not in a map of {@code size} entries.
+ * {@code removeAndPut} removes a random key and puts it back, which shifts entries back and forth in the table.
+ * {@code fill} puts {@code size} keys into a new map, resizes included. {@code count} increments a counter of a
+ * random key.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class HashMapBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Integer[] keys;
+    private Integer[] missingKeys;
+    private long[] longKeys;
+    private int[] indices;
+    private int nextIndex;
+
+    private java.util.HashMap<Integer, Integer> jdkMap;
+    private LongLongHashMap longMap;
+    private java.util.HashMap<Long, Long> jdkLongMap;
+    private IntIntHashMap counters;
+    private java.util.HashMap<Integer, Integer> jdkCounters;
+
+    @Setup
+    public void setUp() {
+        keys = BenchmarkData.shuffledElements(size);
+        missingKeys = new Integer[size];
+        longKeys = new long[size];
+        for (int i = 0; i < size; i++) {
+            missingKeys[i] = keys[i] + size;
+            longKeys[i] = keys[i];
+        }
+        indices = BenchmarkData.randomIndices(1024, size);
+
+        jdkMap = new java.util.HashMap<>();
+        longMap = new LongLongHashMap();
+        jdkLongMap = new java.util.HashMap<>();
+        counters = new IntIntHashMap();
+        jdkCounters = new java.util.HashMap<>();
+        for (int i = 0; i < size; i++) {
+            jdkMap.put(keys[i], keys[i]);
+            longMap.put(longKeys[i], longKeys[i]);
+            jdkLongMap.put(longKeys[i], longKeys[i]);
+        }
+    }
+
+    private int nextIndex() {
+        return indices[nextIndex++ & 1023];
+    }
+
+    @Benchmark
+    public Integer getHit(MapState state) {
+        return state.map.get(keys[nextIndex()]);
+    }
+
+    @Benchmark
+    public Integer jdkGetHit() {
+        return jdkMap.get(keys[nextIndex()]);
+    }
+
+    @Benchmark
+    public Integer getMiss(MapState state) {
+        return state.map.get(missingKeys[nextIndex()]);
+    }
+
+    @Benchmark
+    public Integer jdkGetMiss() {
+        return jdkMap.get(missingKeys[nextIndex()]);
+    }
+
+    @Benchmark
+    public Integer removeAndPut(MapState state) {
+        final var key = keys[nextIndex()];
+        state.map.remove(key);
+        return state.map.put(key, key);
+    }
+
+    @Benchmark
+    public Integer jdkRemoveAndPut() {
+        final var key = keys[nextIndex()];
+        jdkMap.remove(key);
+        return jdkMap.put(key, key);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int fill(MapState state) {
+        final var map = new HashMap<Integer, Integer>(0, state.loadFactor);
+        for (var key : keys) {
+            map.put(key, key);
+        }
+        return map.size();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int jdkFill() {
+        final var map = new java.util.HashMap<Integer, Integer>();
+        for (var key : keys) {
+            map.put(key, key);
+        }
+        return map.size();
+    }
+
+    @Benchmark
+    public long longGetHit() {
+        return longMap.getOrDefault(longKeys[nextIndex()], -1);
+    }
+
+    @Benchmark
+    public Long jdkLongGetHit() {
+        return jdkLongMap.get(longKeys[nextIndex()]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int longFill() {
+        final var map = new LongLongHashMap();
+        for (long key : longKeys) {
+            map.put(key, key);
+        }
+        return map.size();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int jdkLongFill() {
+        final var map = new java.util.HashMap<Long, Long>();
+        for (long key : longKeys) {
+            map.put(key, key);
+        }
+        return map.size();
+    }
+
+    @Benchmark
+    public int count() {
+        return counters.addTo(nextIndex(), 1);
+    }
+
+    @Benchmark
+    public Integer jdkCount() {
+        return jdkCounters.merge(nextIndex(), 1, Integer::sum);
+    }
+
+    @State(Scope.Thread)
+    public static class MapState {
+
+        @Param({"0.5", "0.75", "0.85", "0.95"})
+        private float loadFactor;
+
+        private HashMap<Integer, Integer> map;
+
+        @Setup
+        public void setUp(HashMapBenchmark benchmark) {
+            map = new HashMap<>(0, loadFactor);
+            for (var key : benchmark.keys) {
+                map.put(key, key);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.ArrayList;
+import com.bobocode.cs.IntArrayList;
+import com.bobocode.cs.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link IntArrayList} against a boxed {@link ArrayList} of {@link Integer}. Run it with {@code -prof gc}
+ * to compare allocation per operation as well as throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class IntArrayListBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private int[] elements;
+
+    private IntArrayList intList;
+    private List<Integer> boxedList;
+
+    @Setup
+    public void setUp() {
+        final var shuffled = BenchmarkData.shuffledElements(size);
+        elements = new int[size];
+        intList = new IntArrayList();
+        boxedList = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            elements[i] = shuffled[i];
+            intList.add(elements[i]);
+            boxedList.add(elements[i]);
+        }
+    }
+
+    @Benchmark
+    public IntArrayList add() {
+        final var newList = new IntArrayList();
+        for (int element : elements) {
+            newList.add(element);
+        }
+        return newList;
+    }
+
+    @Benchmark
+    public List<Integer> boxedAdd() {
+        final var newList = new ArrayList<Integer>();
+        for (int element : elements) {
+            newList.add(element);
+        }
+        return newList;
+    }
+
+    @Benchmark
+    public long sumByIndex() {
+        long sum = 0;
+        for (int i = 0; i < intList.size(); i++) {
+            sum += intList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long boxedSumByIndex() {
+        long sum = 0;
+        for (int i = 0; i < boxedList.size(); i++) {
+            sum += boxedList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long streamSum() {
+        return intList.stream().asLongStream().sum();
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return intList.contains(-1);
+    }
+
+    @Benchmark
+    public boolean boxedContainsMissing() {
+        return boxedList.contains(-1);
+    }
+}
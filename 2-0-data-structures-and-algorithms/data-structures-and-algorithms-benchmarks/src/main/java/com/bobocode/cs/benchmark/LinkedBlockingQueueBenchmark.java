@@ -0,0 +1,204 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.BlockingQueue;
+import com.bobocode.cs.LinkedBlockingQueue;
+import com.bobocode.cs.LinkedQueue;
+import com.bobocode.cs.Queue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Starts {@code consumers} virtual threads that each {@link BlockingQueue#take() take} one element, then puts as many
+ * elements from the benchmark thread and waits until every consumer is done. Most consumers are parked in
+ * {@code take()} when the elements arrive.
+ * <p>
+ * {@link LinkedBlockingQueue} parks waiting consumers on a {@link java.util.concurrent.locks.Condition}, so they
+ * release their carrier threads. The {@code synchronized} implementation waits on a monitor, which pins a virtual
+ * thread to its carrier, and {@link java.util.concurrent.LinkedBlockingQueue} is a baseline. Run it with
+ * {@code -Djdk.tracePinnedThreads=short} to see the pinning.
+ * <p>
+ * The project is compiled for Java 11, so virtual threads are created reflectively, and the benchmark must be run
+ * on Java 21 or newer. On older versions the setup fails with {@link UnsupportedOperationException}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LinkedBlockingQueueBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"reentrant-lock", "synchronized", "jdk"})
+    private String implementation;
+
+    @Param({"100000"})
+    private int consumers;
+
+    private ThreadFactory virtualThreadFactory;
+
+    @Setup
+    public void setUp() {
+        virtualThreadFactory = newVirtualThreadFactory();
+    }
+
+    private BlockingQueue<Integer> newQueue() {
+        switch (implementation) {
+            case "reentrant-lock":
+                return new LinkedBlockingQueue<>();
+            case "synchronized":
+                return new SynchronizedBlockingQueue<>(new LinkedQueue<>());
+            case "jdk":
+                return new JdkBlockingQueue<>(new java.util.concurrent.LinkedBlockingQueue<>());
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    private static ThreadFactory newVirtualThreadFactory() {
+        try {
+            final var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21, running on "
+                    + System.getProperty("java.version"), e);
+        }
+    }
+
+    @Benchmark
+    public long virtualThreadConsumers() throws InterruptedException {
+        final var queue = newQueue();
+        final var done = new CountDownLatch(consumers);
+        final var sum = new LongAdder();
+        final Runnable consumer = () -> {
+            try {
+                sum.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                done.countDown();
+            }
+        };
+        for (int i = 0; i < consumers; i++) {
+            virtualThreadFactory.newThread(consumer).start();
+        }
+        for (int i = 0; i < consumers; i++) {
+            queue.put(ELEMENT);
+        }
+        done.await();
+        return sum.sum();
+    }
+
+    /**
+     * A blocking queue built the classic way, with {@code wait} and {@code notify} on the monitor of the queue.
+     */
+    private static final class SynchronizedBlockingQueue<T> implements BlockingQueue<T> {
+        private final Queue<T> delegate;
+
+        private SynchronizedBlockingQueue(Queue<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public synchronized void add(T element) {
+            delegate.add(element);
+            notify();
+        }
+
+        @Override
+        public void put(T element) {
+            add(element);
+        }
+
+        @Override
+        public synchronized T poll() {
+            return delegate.poll();
+        }
+
+        @Override
+        public synchronized T take() throws InterruptedException {
+            while (delegate.isEmpty()) {
+                wait();
+            }
+            return delegate.poll();
+        }
+
+        @Override
+        public synchronized T poll(long timeout, TimeUnit unit) throws InterruptedException {
+            final long deadline = System.nanoTime() + unit.toNanos(timeout);
+            long nanos;
+            while (delegate.isEmpty() && (nanos = deadline - System.nanoTime()) > 0) {
+                TimeUnit.NANOSECONDS.timedWait(this, nanos);
+            }
+            return delegate.poll();
+        }
+
+        @Override
+        public synchronized int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return delegate.isEmpty();
+        }
+    }
+
+    private static final class JdkBlockingQueue<T> implements BlockingQueue<T> {
+        private final java.util.concurrent.BlockingQueue<T> delegate;
+
+        private JdkBlockingQueue(java.util.concurrent.BlockingQueue<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void add(T element) {
+            delegate.add(element);
+        }
+
+        @Override
+        public void put(T element) throws InterruptedException {
+            delegate.put(element);
+        }
+
+        @Override
+        public T poll() {
+            return delegate.poll();
+        }
+
+        @Override
+        public T take() throws InterruptedException {
+            return delegate.take();
+        }
+
+        @Override
+        public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.poll(timeout, unit);
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return delegate.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.DoublyLinkedList;
+import com.bobocode.cs.LinkedList;
+import com.bobocode.cs.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link LinkedList} against {@link java.util.LinkedList} as a baseline. Every {@code jdk*} method measures
+ * exactly the same operation as its counterpart on the JDK collection.
+ * <p>
+ * A full traversal is measured with {@code containsMissing}, since walking the list with {@code get(i)} is quadratic
+ * and does not finish in a reasonable time on big sizes.
+ * <p>
+ * {@code implementation} switches between the singly linked {@link LinkedList} and {@link DoublyLinkedList}, which
+ * searches from the nearer end and so turns {@code getLastByIndex} and {@code addAndRemoveLast} into constant time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LinkedListBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"singly", "doubly"})
+    private String implementation;
+
+    private Integer[] elements;
+    private int[] indices;
+    private int nextIndex;
+    private Integer missingElement;
+
+    private List<Integer> list;
+    private java.util.List<Integer> jdkList;
+
+    @Setup
+    public void setUp() {
+        elements = BenchmarkData.shuffledElements(size);
+        indices = BenchmarkData.randomIndices(1024, size);
+        missingElement = -1;
+        list = newList();
+        jdkList = new java.util.LinkedList<>();
+        for (var element : elements) {
+            list.add(element);
+            jdkList.add(element);
+        }
+    }
+
+    private List<Integer> newList() {
+        switch (implementation) {
+            case "singly":
+                return new LinkedList<>();
+            case "doubly":
+                return new DoublyLinkedList<>();
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    private int nextIndex() {
+        return indices[nextIndex++ & (indices.length - 1)];
+    }
+
+    @Benchmark
+    public List<Integer> add() {
+        final var newList = newList();
+        for (var element : elements) {
+            newList.add(element);
+        }
+        return newList;
+    }
+
+    @Benchmark
+    public java.util.List<Integer> jdkAdd() {
+        final var newList = new java.util.LinkedList<Integer>();
+        for (var element : elements) {
+            newList.add(element);
+        }
+        return newList;
+    }
+
+    @Benchmark
+    public List<Integer> addAll() {
+        final var newList = newList();
+        newList.addAll(elements);
+        return newList;
+    }
+
+    @Benchmark
+    public java.util.List<Integer> jdkAddAll() {
+        final var newList = new java.util.LinkedList<Integer>();
+        java.util.Collections.addAll(newList, elements);
+        return newList;
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer jdkGet() {
+        return jdkList.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer getLastByIndex() {
+        return list.get(size - 1);
+    }
+
+    @Benchmark
+    public Integer jdkGetLastByIndex() {
+        return jdkList.get(size - 1);
+    }
+
+    @Benchmark
+    public Integer insertAndRemoveHead() {
+        list.add(0, missingElement);
+        return list.remove(0);
+    }
+
+    @Benchmark
+    public Integer jdkInsertAndRemoveHead() {
+        jdkList.add(0, missingElement);
+        return jdkList.remove(0);
+    }
+
+    @Benchmark
+    public Integer addAndRemoveLast() {
+        list.add(missingElement);
+        return list.remove(list.size() - 1);
+    }
+
+    @Benchmark
+    public Integer jdkAddAndRemoveLast() {
+        jdkList.add(missingElement);
+        return jdkList.remove(jdkList.size() - 1);
+    }
+
+    @Benchmark
+    public Integer insertAndRemoveRandom() {
+        final int index = nextIndex();
+        list.add(index, missingElement);
+        return list.remove(index);
+    }
+
+    @Benchmark
+    public Integer jdkInsertAndRemoveRandom() {
+        final int index = nextIndex();
+        jdkList.add(index, missingElement);
+        return jdkList.remove(index);
+    }
+
+    @Benchmark
+    public boolean containsExisting() {
+        return list.contains(elements[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean jdkContainsExisting() {
+        return jdkList.contains(elements[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return list.contains(missingElement);
+    }
+
+    @Benchmark
+    public boolean jdkContainsMissing() {
+        return jdkList.contains(missingElement);
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (Integer element : list) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long jdkIterate() {
+        long sum = 0;
+        for (Integer element : jdkList) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long streamSum() {
+        return list.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long jdkStreamSum() {
+        return jdkList.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallelStreamSum() {
+        return list.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long jdkParallelStreamSum() {
+        return jdkList.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+}
@@ -0,0 +1,99 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.LinkedQueue;
+import com.bobocode.cs.Queue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link LinkedQueue} against {@link java.util.LinkedList} used as a {@link java.util.Queue}. Both are
+ * node-per-element FIFO queues, so the baseline shows the cost of the implementation rather than of the layout.
+ * <p>
+ * {@code addAndPoll} keeps the queue at a steady {@code size}, {@code fillAndDrain} pushes {@code size} elements
+ * through an empty queue.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LinkedQueueBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private Integer[] elements;
+    private int nextIndex;
+
+    private Queue<Integer> queue;
+    private java.util.Queue<Integer> jdkQueue;
+
+    @Setup
+    public void setUp() {
+        elements = BenchmarkData.shuffledElements(size);
+        queue = new LinkedQueue<>();
+        jdkQueue = new java.util.LinkedList<>();
+        for (var element : elements) {
+            queue.add(element);
+            jdkQueue.add(element);
+        }
+    }
+
+    private Integer nextElement() {
+        final var element = elements[nextIndex++];
+        if (nextIndex == elements.length) nextIndex = 0;
+        return element;
+    }
+
+    @Benchmark
+    public Integer addAndPoll() {
+        queue.add(nextElement());
+        return queue.poll();
+    }
+
+    @Benchmark
+    public Integer jdkAddAndPoll() {
+        jdkQueue.add(nextElement());
+        return jdkQueue.poll();
+    }
+
+    @Benchmark
+    public long fillAndDrain() {
+        final var newQueue = new LinkedQueue<Integer>();
+        for (var element : elements) {
+            newQueue.add(element);
+        }
+        long sum = 0;
+        Integer element;
+        while ((element = newQueue.poll()) != null) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long jdkFillAndDrain() {
+        final var newQueue = new java.util.LinkedList<Integer>();
+        for (var element : elements) {
+            newQueue.add(element);
+        }
+        long sum = 0;
+        Integer element;
+        while ((element = newQueue.poll()) != null) {
+            sum += element;
+        }
+        return sum;
+    }
+}
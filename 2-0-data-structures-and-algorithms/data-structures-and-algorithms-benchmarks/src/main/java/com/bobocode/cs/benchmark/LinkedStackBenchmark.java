@@ -0,0 +1,98 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.LinkedStack;
+import com.bobocode.cs.Stack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link LinkedStack} against {@link ArrayDeque}, which is the stack implementation recommended by the JDK.
+ * <p>
+ * {@code pushAndPop} keeps the stack at a steady {@code size}, {@code fillAndDrain} pushes {@code size} elements
+ * onto an empty stack and pops all of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LinkedStackBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private Integer[] elements;
+    private int nextIndex;
+
+    private Stack<Integer> stack;
+    private Deque<Integer> jdkStack;
+
+    @Setup
+    public void setUp() {
+        elements = BenchmarkData.shuffledElements(size);
+        stack = new LinkedStack<>();
+        jdkStack = new ArrayDeque<>();
+        for (var element : elements) {
+            stack.push(element);
+            jdkStack.push(element);
+        }
+    }
+
+    private Integer nextElement() {
+        final var element = elements[nextIndex++];
+        if (nextIndex == elements.length) nextIndex = 0;
+        return element;
+    }
+
+    @Benchmark
+    public Integer pushAndPop() {
+        stack.push(nextElement());
+        return stack.pop();
+    }
+
+    @Benchmark
+    public Integer jdkPushAndPop() {
+        jdkStack.push(nextElement());
+        return jdkStack.pop();
+    }
+
+    @Benchmark
+    public long fillAndDrain() {
+        final var newStack = new LinkedStack<Integer>();
+        for (var element : elements) {
+            newStack.push(element);
+        }
+        long sum = 0;
+        while (!newStack.isEmpty()) {
+            sum += newStack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long jdkFillAndDrain() {
+        final var newStack = new ArrayDeque<Integer>();
+        for (var element : elements) {
+            newStack.push(element);
+        }
+        long sum = 0;
+        while (!newStack.isEmpty()) {
+            sum += newStack.pop();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,196 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.LinkedQueue;
+import com.bobocode.cs.LockFreeLinkedQueue;
+import com.bobocode.cs.Queue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hands elements off from producers to consumers through {@link LockFreeLinkedQueue}, a {@link LinkedQueue} guarded
+ * by a global lock, and {@link ConcurrentLinkedQueue} as a baseline. Each group runs the same number of producers and
+ * consumers: 1, 2, 4 or 8 of each.
+ * <p>
+ * A producer checks {@link Queue#size()} before every add and skips it while the queue holds {@link #CAPACITY}
+ * elements, which keeps memory bounded when consumers fall behind and also measures the cost of {@code size()}
+ * under contention. A consumer returns {@code null} when the queue is empty.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LockFreeLinkedQueueBenchmark {
+
+    private static final int CAPACITY = 1 << 16;
+    private static final Integer ELEMENT = 42;
+
+    @Param({"lock-free", "locked", "jdk"})
+    private String implementation;
+
+    private Queue<Integer> queue;
+
+    @Setup
+    public void setUp() {
+        queue = newQueue();
+    }
+
+    private Queue<Integer> newQueue() {
+        switch (implementation) {
+            case "lock-free":
+                return new LockFreeLinkedQueue<>();
+            case "locked":
+                return new SynchronizedQueue<>(new LinkedQueue<>());
+            case "jdk":
+                return new JdkQueue<>(new ConcurrentLinkedQueue<>());
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    private boolean produce() {
+        if (queue.size() >= CAPACITY) return false;
+        queue.add(ELEMENT);
+        return true;
+    }
+
+    private Integer consume() {
+        return queue.poll();
+    }
+
+    @Benchmark
+    @Group("handOff1x1")
+    @GroupThreads(1)
+    public boolean produce1x1() {
+        return produce();
+    }
+
+    @Benchmark
+    @Group("handOff1x1")
+    @GroupThreads(1)
+    public Integer consume1x1() {
+        return consume();
+    }
+
+    @Benchmark
+    @Group("handOff2x2")
+    @GroupThreads(2)
+    public boolean produce2x2() {
+        return produce();
+    }
+
+    @Benchmark
+    @Group("handOff2x2")
+    @GroupThreads(2)
+    public Integer consume2x2() {
+        return consume();
+    }
+
+    @Benchmark
+    @Group("handOff4x4")
+    @GroupThreads(4)
+    public boolean produce4x4() {
+        return produce();
+    }
+
+    @Benchmark
+    @Group("handOff4x4")
+    @GroupThreads(4)
+    public Integer consume4x4() {
+        return consume();
+    }
+
+    @Benchmark
+    @Group("handOff8x8")
+    @GroupThreads(8)
+    public boolean produce8x8() {
+        return produce();
+    }
+
+    @Benchmark
+    @Group("handOff8x8")
+    @GroupThreads(8)
+    public Integer consume8x8() {
+        return consume();
+    }
+
+    private static final class SynchronizedQueue<T> implements Queue<T> {
+        private final Queue<T> delegate;
+
+        private SynchronizedQueue(Queue<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public synchronized void add(T element) {
+            delegate.add(element);
+        }
+
+        @Override
+        public synchronized T poll() {
+            return delegate.poll();
+        }
+
+        @Override
+        public synchronized int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return delegate.isEmpty();
+        }
+    }
+
+    /**
+     * {@link ConcurrentLinkedQueue#size()} traverses the whole queue, so the adapter counts elements in a
+     * {@link LongAdder} the same way {@link LockFreeLinkedQueue} does.
+     */
+    private static final class JdkQueue<T> implements Queue<T> {
+        private final java.util.Queue<T> delegate;
+        private final LongAdder size = new LongAdder();
+
+        private JdkQueue(java.util.Queue<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void add(T element) {
+            delegate.add(element);
+            size.increment();
+        }
+
+        @Override
+        public T poll() {
+            final var element = delegate.poll();
+            if (element != null) size.decrement();
+            return element;
+        }
+
+        @Override
+        public int size() {
+            return size.intValue();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return delegate.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.LinkedList;
+import com.bobocode.cs.LinkedQueue;
+import com.bobocode.cs.LinkedStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link LinkedQueue}, {@link LinkedStack} and {@link LinkedList} with and without a node pool. A pool
+ * capacity of zero allocates a node per added element, as the structures always did. Run with {@code -prof gc} to
+ * compare allocation rates: {@code gc.alloc.rate.norm} is the number of bytes allocated per operation.
+ * <p>
+ * {@code queueAddAndPoll}, {@code stackPushAndPop} and {@code listAddAndRemoveFirst} keep a structure at a steady
+ * {@code size}. {@code queueBurst} adds 256 elements and then polls 256 elements, so the pool must hold a whole
+ * burst to avoid allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class NodePoolBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"0", "1024"})
+    private int poolCapacity;
+
+    private Integer[] elements;
+    private int nextIndex;
+
+    private LinkedQueue<Integer> queue;
+    private LinkedStack<Integer> stack;
+    private LinkedList<Integer> list;
+
+    @Setup
+    public void setUp() {
+        elements = BenchmarkData.shuffledElements(size);
+        queue = new LinkedQueue<>(poolCapacity);
+        stack = new LinkedStack<>(poolCapacity);
+        list = new LinkedList<>(poolCapacity);
+        for (var element : elements) {
+            queue.add(element);
+        }
+        for (var element : elements) {
+            stack.push(element);
+        }
+        for (var element : elements) {
+            list.add(element);
+        }
+    }
+
+    private Integer nextElement() {
+        final var element = elements[nextIndex++];
+        if (nextIndex == elements.length) nextIndex = 0;
+        return element;
+    }
+
+    @Benchmark
+    public Integer queueAddAndPoll() {
+        queue.add(nextElement());
+        return queue.poll();
+    }
+
+    @Benchmark
+    public Integer stackPushAndPop() {
+        stack.push(nextElement());
+        return stack.pop();
+    }
+
+    @Benchmark
+    public Integer listAddAndRemoveFirst() {
+        list.add(nextElement());
+        return list.remove(0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(256)
+    public long queueBurst() {
+        for (int i = 0; i < 256; i++) {
+            queue.add(nextElement());
+        }
+        long sum = 0;
+        for (int i = 0; i < 256; i++) {
+            sum += queue.poll();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,83 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobobode.cs.Node;
+import com.bobobode.cs.Nodes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks chain utilities of {@link Nodes}.
+ * <p>
+ * {@code sort} builds a chain of shuffled elements and sorts it by relinking nodes. {@code jdkSort} builds a
+ * {@link java.util.LinkedList} of the same elements and sorts it, which copies elements to an array, sorts the array
+ * and writes elements back. {@code hasCycle} (Floyd) and {@code cycleLength} (Brent) walk a chain of {@code size}
+ * nodes whose last node links back to the middle one. {@code reverse} reverses a chain of {@code size} nodes in place.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class NodesBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private Integer[] elements;
+    private Node<Integer> rho;
+    private Node<Integer> chain;
+
+    @Setup
+    public void setUp() {
+        elements = BenchmarkData.shuffledElements(size);
+        chain = Nodes.chainOf(elements);
+        rho = Nodes.circleOf(Arrays.copyOfRange(elements, size / 2, size));
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            final var node = Nodes.create(elements[i]);
+            Nodes.link(node, rho);
+            rho = node;
+        }
+    }
+
+    @Benchmark
+    public Node<Integer> sort() {
+        return Nodes.sort(Nodes.chainOf(elements), Comparator.naturalOrder());
+    }
+
+    @Benchmark
+    public java.util.LinkedList<Integer> jdkSort() {
+        final var list = new java.util.LinkedList<>(Arrays.asList(elements));
+        list.sort(Comparator.naturalOrder());
+        return list;
+    }
+
+    @Benchmark
+    public boolean hasCycle() {
+        return Nodes.hasCycle(rho);
+    }
+
+    @Benchmark
+    public int cycleLength() {
+        return Nodes.cycleLength(rho);
+    }
+
+    @Benchmark
+    public Node<Integer> reverse() {
+        chain = Nodes.reverse(chain);
+        return chain;
+    }
+}
@@ -0,0 +1,92 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.ArrayList;
+import com.bobocode.cs.ElementCodec;
+import com.bobocode.cs.List;
+import com.bobocode.cs.OffHeapArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the garbage collection cost of a big {@link ArrayList} of {@link Long} with {@link OffHeapArrayList}
+ * holding the same elements. {@code fullGc} measures a pause of {@link System#gc()} while the list is reachable, so
+ * it grows with the number of live on-heap objects the collector has to trace. {@code get} shows the price of
+ * decoding every element from a direct buffer.
+ * <p>
+ * Run it with {@code -prof gc} to see the total collection time as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-XX:MaxDirectMemorySize=2g"})
+public class OffHeapArrayListBenchmark {
+
+    @Param({"100000000"})
+    private int size;
+
+    @Param({"on-heap", "off-heap"})
+    private String implementation;
+
+    private int[] indices;
+    private int nextIndex;
+
+    private List<Long> list;
+
+    @Setup
+    public void setUp() {
+        indices = BenchmarkData.randomIndices(1024, size);
+        list = newList();
+        for (long i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    private List<Long> newList() {
+        switch (implementation) {
+            case "on-heap":
+                final var onHeap = new ArrayList<Long>();
+                onHeap.ensureCapacity(size);
+                return onHeap;
+            case "off-heap":
+                final var offHeap = new OffHeapArrayList<>(ElementCodec.LONG);
+                offHeap.ensureCapacity(size);
+                return offHeap;
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (list instanceof OffHeapArrayList) {
+            ((OffHeapArrayList<Long>) list).close();
+        }
+        list = null;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int fullGc() {
+        System.gc();
+        return list.size();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Long get() {
+        return list.get(indices[nextIndex++ & (indices.length - 1)]);
+    }
+}
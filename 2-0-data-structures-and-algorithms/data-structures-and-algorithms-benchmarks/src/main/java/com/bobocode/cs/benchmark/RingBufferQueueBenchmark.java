@@ -0,0 +1,125 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.LinkedQueue;
+import com.bobocode.cs.LockFreeLinkedQueue;
+import com.bobocode.cs.Queue;
+import com.bobocode.cs.RingBufferQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link RingBufferQueue} against node-based {@link LinkedQueue} and {@link java.util.ArrayDeque} as a
+ * baseline. Run it with {@code -prof gc} to see that the ring buffer does not allocate per element.
+ * <p>
+ * {@code fillAndDrain*} pushes a batch of {@code batch} elements through the queue one by one, while
+ * {@code batchFillAndDrain} does it with {@link RingBufferQueue#offerBatch(Object[])} and
+ * {@link RingBufferQueue#drainTo}. {@code spsc} hands elements off from one producer thread to one consumer thread
+ * through the ring buffer and {@link LockFreeLinkedQueue}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RingBufferQueueBenchmark {
+
+    private static final int CAPACITY = 1 << 12;
+
+    @Param({"16", "256"})
+    private int batch;
+
+    private Integer[] elements;
+
+    private RingBufferQueue<Integer> ringBuffer;
+    private Queue<Integer> linkedQueue;
+    private java.util.Queue<Integer> jdkQueue;
+
+    @Setup
+    public void setUp() {
+        elements = BenchmarkData.shuffledElements(batch);
+        ringBuffer = new RingBufferQueue<>(CAPACITY);
+        linkedQueue = new LinkedQueue<>();
+        jdkQueue = new java.util.ArrayDeque<>(CAPACITY);
+    }
+
+    @Benchmark
+    public void fillAndDrainRingBuffer(Blackhole blackhole) {
+        for (var element : elements) {
+            ringBuffer.add(element);
+        }
+        for (int i = 0; i < elements.length; i++) {
+            blackhole.consume(ringBuffer.poll());
+        }
+    }
+
+    @Benchmark
+    public void fillAndDrainLinkedQueue(Blackhole blackhole) {
+        for (var element : elements) {
+            linkedQueue.add(element);
+        }
+        for (int i = 0; i < elements.length; i++) {
+            blackhole.consume(linkedQueue.poll());
+        }
+    }
+
+    @Benchmark
+    public void jdkFillAndDrain(Blackhole blackhole) {
+        for (var element : elements) {
+            jdkQueue.add(element);
+        }
+        for (int i = 0; i < elements.length; i++) {
+            blackhole.consume(jdkQueue.poll());
+        }
+    }
+
+    @Benchmark
+    public int batchFillAndDrain(Blackhole blackhole) {
+        ringBuffer.offerBatch(elements);
+        return ringBuffer.drainTo(blackhole::consume, elements.length);
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public boolean spscProduce(SpscState state) {
+        if (state.queue.size() >= CAPACITY) return false;
+        state.queue.add(CAPACITY);
+        return true;
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public Integer spscConsume(SpscState state) {
+        return state.queue.poll();
+    }
+
+    @State(Scope.Group)
+    public static class SpscState {
+
+        @Param({"ring-buffer", "lock-free"})
+        private String implementation;
+
+        private Queue<Integer> queue;
+
+        @Setup
+        public void setUp() {
+            queue = "ring-buffer".equals(implementation) ? new RingBufferQueue<>(CAPACITY) : new LockFreeLinkedQueue<>();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.BinarySearchTree;
+import com.bobocode.cs.ConcurrentSkipList;
+import com.bobocode.cs.RecursiveBinarySearchTree;
+import com.bobocode.cs.RedBlackBinarySearchTree;
+import com.bobocode.cs.SkipList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link SkipList} and {@link ConcurrentSkipList} with {@link RecursiveBinarySearchTree} and
+ * {@link RedBlackBinarySearchTree} on sorted and random input. {@code skip-list-half} is a {@link SkipList} with level
+ * probability 1/2 instead of the default 1/4.
+ * <p>
+ * {@code insert} builds a new tree of {@code size} elements, {@code contains} looks up a random element, and
+ * {@code rangeSum} sums 100 consecutive elements from a random one with {@link BinarySearchTree#stream(Comparable,
+ * Comparable)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class SkipListBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"SORTED", "RANDOM"})
+    private String order;
+
+    @Param({"recursive", "red-black", "skip-list", "skip-list-half", "concurrent-skip-list"})
+    private String implementation;
+
+    private Integer[] elements;
+    private int[] indices;
+    private int nextIndex;
+
+    private BinarySearchTree<Integer> tree;
+
+    @Setup
+    public void setUp() {
+        elements = "SORTED".equals(order) ? BenchmarkData.sortedElements(size) : BenchmarkData.shuffledElements(size);
+        indices = BenchmarkData.randomIndices(1024, size);
+        tree = fill(newTree());
+    }
+
+    private BinarySearchTree<Integer> newTree() {
+        switch (implementation) {
+            case "recursive":
+                return new RecursiveBinarySearchTree<>();
+            case "red-black":
+                return new RedBlackBinarySearchTree<>();
+            case "skip-list":
+                return new SkipList<>();
+            case "skip-list-half":
+                return new SkipList<>(0.5);
+            case "concurrent-skip-list":
+                return new ConcurrentSkipList<>();
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    private BinarySearchTree<Integer> fill(BinarySearchTree<Integer> tree) {
+        for (var element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    private Integer nextElement() {
+        return elements[indices[nextIndex++ & (indices.length - 1)]];
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public BinarySearchTree<Integer> insert() {
+        return fill(newTree());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean contains() {
+        return tree.contains(nextElement());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long rangeSum() {
+        final var from = nextElement();
+        return tree.stream(from, from + 99).mapToLong(Integer::longValue).sum();
+    }
+}
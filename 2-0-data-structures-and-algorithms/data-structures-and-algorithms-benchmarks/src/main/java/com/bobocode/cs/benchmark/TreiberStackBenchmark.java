@@ -0,0 +1,180 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.LinkedStack;
+import com.bobocode.cs.Stack;
+import com.bobocode.cs.TreiberStack;
+import com.bobocode.cs.exception.EmptyStackException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs 1 to 32 threads that share one stack, and each of them pushes an element and pops one in a loop. Compares
+ * {@link TreiberStack} with and without the elimination array, a {@link LinkedStack} guarded by a global lock, and
+ * {@link ConcurrentLinkedDeque} as a baseline.
+ * <p>
+ * The stack is prefilled with {@link #PREFILL} elements, so pops do not find it empty. The throughput is the total of
+ * all threads, so an implementation that scales under contention shows a growing score as threads are added.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class TreiberStackBenchmark {
+
+    private static final int PREFILL = 1024;
+    private static final Integer ELEMENT = 42;
+
+    @Param({"treiber", "treiber-no-elimination", "locked", "jdk"})
+    private String implementation;
+
+    private Stack<Integer> stack;
+
+    @Setup
+    public void setUp() {
+        stack = newStack();
+        for (int i = 0; i < PREFILL; i++) {
+            stack.push(ELEMENT);
+        }
+    }
+
+    private Stack<Integer> newStack() {
+        switch (implementation) {
+            case "treiber":
+                return new TreiberStack<>();
+            case "treiber-no-elimination":
+                return new TreiberStack<>(0);
+            case "locked":
+                return new SynchronizedStack<>(new LinkedStack<>());
+            case "jdk":
+                return new JdkStack<>(new ConcurrentLinkedDeque<>());
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    private Integer pushAndPop() {
+        stack.push(ELEMENT);
+        return stack.pop();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer pushAndPop1() {
+        return pushAndPop();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public Integer pushAndPop2() {
+        return pushAndPop();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer pushAndPop4() {
+        return pushAndPop();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer pushAndPop8() {
+        return pushAndPop();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Integer pushAndPop16() {
+        return pushAndPop();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Integer pushAndPop32() {
+        return pushAndPop();
+    }
+
+    private static final class SynchronizedStack<T> implements Stack<T> {
+        private final Stack<T> delegate;
+
+        private SynchronizedStack(Stack<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public synchronized void push(T element) {
+            delegate.push(element);
+        }
+
+        @Override
+        public synchronized T pop() {
+            return delegate.pop();
+        }
+
+        @Override
+        public synchronized T peek() {
+            return delegate.peek();
+        }
+
+        @Override
+        public synchronized int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return delegate.isEmpty();
+        }
+    }
+
+    private static final class JdkStack<T> implements Stack<T> {
+        private final ConcurrentLinkedDeque<T> delegate;
+
+        private JdkStack(ConcurrentLinkedDeque<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void push(T element) {
+            delegate.push(element);
+        }
+
+        @Override
+        public T pop() {
+            final var element = delegate.pollFirst();
+            if (element == null) throw new EmptyStackException();
+            return element;
+        }
+
+        @Override
+        public T peek() {
+            final var element = delegate.peekFirst();
+            if (element == null) throw new EmptyStackException();
+            return element;
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return delegate.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.ArrayList;
+import com.bobocode.cs.LinkedList;
+import com.bobocode.cs.List;
+import com.bobocode.cs.UnrolledLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link UnrolledLinkedList} against both {@link ArrayList} and {@link LinkedList}. The unrolled list is
+ * expected to iterate close to the array list and to insert in the middle faster than it on big sizes, since only
+ * a single node is shifted.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class UnrolledLinkedListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"unrolled", "array", "linked"})
+    private String implementation;
+
+    private Integer[] elements;
+    private int[] indices;
+    private int nextIndex;
+    private Integer missingElement;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setUp() {
+        elements = BenchmarkData.shuffledElements(size);
+        indices = BenchmarkData.randomIndices(1024, size);
+        missingElement = -1;
+        list = newList();
+        for (var element : elements) {
+            list.add(element);
+        }
+    }
+
+    private List<Integer> newList() {
+        switch (implementation) {
+            case "unrolled":
+                return new UnrolledLinkedList<>();
+            case "array":
+                return new ArrayList<>();
+            case "linked":
+                return new LinkedList<>();
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    private int nextIndex() {
+        return indices[nextIndex++ & (indices.length - 1)];
+    }
+
+    @Benchmark
+    public List<Integer> add() {
+        final var newList = newList();
+        for (var element : elements) {
+            newList.add(element);
+        }
+        return newList;
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (Integer element : list) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer insertAndRemoveRandom() {
+        final int index = nextIndex();
+        list.add(index, missingElement);
+        return list.remove(index);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return list.contains(missingElement);
+    }
+}
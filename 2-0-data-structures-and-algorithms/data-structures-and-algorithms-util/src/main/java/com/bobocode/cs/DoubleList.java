@@ -0,0 +1,33 @@
+package com.bobocode.cs;
+
+import java.util.stream.DoubleStream;
+
+/**
+ * {@link DoubleList} is a {@link List} of primitive {@code double} values. It has the same contract as {@link List}, but
+ * elements are neither boxed on add nor unboxed on get.
+ */
+public interface DoubleList {
+    void add(double element);
+
+    void add(int index, double element);
+
+    void set(int index, double element);
+
+    double get(int index);
+
+    double getFirst();
+
+    double getLast();
+
+    double remove(int index);
+
+    boolean contains(double element);
+
+    boolean isEmpty();
+
+    int size();
+
+    void clear();
+
+    DoubleStream stream();
+}
@@ -0,0 +1,33 @@
+package com.bobocode.cs;
+
+import java.util.stream.IntStream;
+
+/**
+ * {@link IntList} is a {@link List} of primitive {@code int} values. It has the same contract as {@link List}, but
+ * elements are neither boxed on add nor unboxed on get.
+ */
+public interface IntList {
+    void add(int element);
+
+    void add(int index, int element);
+
+    void set(int index, int element);
+
+    int get(int index);
+
+    int getFirst();
+
+    int getLast();
+
+    int remove(int index);
+
+    boolean contains(int element);
+
+    boolean isEmpty();
+
+    int size();
+
+    void clear();
+
+    IntStream stream();
+}
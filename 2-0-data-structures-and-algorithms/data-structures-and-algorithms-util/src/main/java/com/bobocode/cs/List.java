@@ -1,7 +1,16 @@
 package com.bobocode.cs;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public interface List<T> {
+public interface List<T> extends Iterable<T> {
     void add(T element);
 
     void add(int index, T element);
@@ -23,4 +32,85 @@ public interface List<T> {
     int size();
 
     void clear();
+
+    /**
+     * Adds all elements of the array to the end of the list in the array order. Implementations override it to
+     * allocate memory once for all the elements.
+     *
+     * @param elements elements to add
+     */
+    default void addAll(T[] elements) {
+        for (var element : elements) {
+            add(element);
+        }
+    }
+
+    /**
+     * Adds all elements of the collection to the end of the list in the collection iteration order.
+     *
+     * @param elements elements to add
+     */
+    default void addAll(Collection<? extends T> elements) {
+        for (var element : elements) {
+            add(element);
+        }
+    }
+
+    /**
+     * Removes all elements that satisfy the predicate. By default, the list is rebuilt from the remaining elements,
+     * so it takes linear time for every implementation.
+     *
+     * @param filter a predicate that returns {@code true} for elements to remove
+     * @return {@code true} if any element was removed
+     */
+    default boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        final var remaining = new java.util.ArrayList<T>(size());
+        for (var element : this) {
+            if (!filter.test(element)) remaining.add(element);
+        }
+        if (remaining.size() == size()) return false;
+
+        clear();
+        addAll(remaining);
+        return true;
+    }
+
+    /**
+     * Sorts the list according to the comparator. The sort is stable, {@code null} comparator means natural
+     * ordering of elements. By default, elements are sorted in an array and the list is rebuilt from it.
+     *
+     * @param comparator a comparator to compare elements, or {@code null} for natural ordering
+     */
+    @SuppressWarnings("unchecked")
+    default void sort(Comparator<? super T> comparator) {
+        final var elements = (T[]) new Object[size()];
+        int index = 0;
+        for (var element : this) {
+            elements[index++] = element;
+        }
+        Arrays.sort(elements, comparator);
+
+        clear();
+        addAll(elements);
+    }
+
+    /**
+     * Returns an ordered spliterator that knows the exact list size. By default, it batches elements from
+     * {@link #iterator()} when split, implementations backed by an array should override it.
+     *
+     * @return a spliterator over list elements
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -0,0 +1,33 @@
+package com.bobocode.cs;
+
+import java.util.stream.LongStream;
+
+/**
+ * {@link LongList} is a {@link List} of primitive {@code long} values. It has the same contract as {@link List}, but
+ * elements are neither boxed on add nor unboxed on get.
+ */
+public interface LongList {
+    void add(long element);
+
+    void add(int index, long element);
+
+    void set(int index, long element);
+
+    long get(int index);
+
+    long getFirst();
+
+    long getLast();
+
+    long remove(int index);
+
+    boolean contains(long element);
+
+    boolean isEmpty();
+
+    int size();
+
+    void clear();
+
+    LongStream stream();
+}
@@ -0,0 +1,116 @@
+package com.bobocode.cs;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link NodePool} is a bounded free list of nodes that were removed from a linked structure. The structure releases
+ * a node when an element is removed, and acquires it back when the next element is added, so a workload that adds
+ * and removes elements at the same rate does not allocate a node per element.
+ * <p>
+ * A pool does not know what a node looks like, so a structure passes functions that create, initialise and clear its
+ * nodes. A node is cleared before it is pooled, so the pool does not keep removed elements reachable. A pool of zero
+ * capacity never keeps nodes, and a structure can use it to disable pooling without checks of its own. A pool is not
+ * thread-safe and belongs to one structure.
+ * <p>
+ * Pooling trades throughput for allocation rate. Allocating a node in a thread-local allocation buffer is a pointer
+ * bump, and new nodes are placed next to each other, while pooled nodes get old and stay wherever they were first
+ * allocated. A pool pays off when young collections matter more than the cost of a single operation.
+ *
+ * @param <N> a type of nodes
+ */
+public class NodePool<N> {
+    private final Object[] nodes;
+    private int count;
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param capacity the maximum number of nodes the pool keeps, zero disables pooling
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public NodePool(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("Invalid capacity " + capacity);
+        this.nodes = new Object[capacity];
+    }
+
+    /**
+     * Takes a node out of the pool.
+     *
+     * @return a released node or {@code null} if the pool is empty
+     */
+    @SuppressWarnings("unchecked")
+    public N acquire() {
+        if (count == 0) return null;
+
+        final var node = (N) nodes[--count];
+        nodes[count] = null;
+        return node;
+    }
+
+    /**
+     * Takes a node out of the pool and sets its element, or creates a new node if the pool is empty.
+     *
+     * @param element     an element of the node
+     * @param factory     a function that creates a new node of an element
+     * @param initializer a function that sets an element of a released node
+     * @param <E>         a type of elements
+     * @return a node of the element
+     */
+    public <E> N acquire(E element, Function<? super E, ? extends N> factory,
+                         BiConsumer<? super N, ? super E> initializer) {
+        final var node = acquire();
+        if (node == null) return factory.apply(element);
+
+        initializer.accept(node, element);
+        return node;
+    }
+
+    /**
+     * Clears a node and puts it into the pool, unless the pool is full. In that case the node is left to the garbage
+     * collector as it is.
+     *
+     * @param node    a node that is no longer referenced by the structure
+     * @param clearer a function that clears the element and links of a node
+     * @return {@code true} if the node was pooled, {@code false} if the pool is full
+     */
+    public boolean release(N node, Consumer<? super N> clearer) {
+        if (count == nodes.length) return false;
+
+        clearer.accept(node);
+        nodes[count++] = node;
+        return true;
+    }
+
+    /**
+     * Puts a node into the pool, unless the pool is full. In that case the node is left to the garbage collector.
+     *
+     * @param node a cleared node that is no longer referenced by the structure
+     * @return {@code true} if the node was pooled, {@code false} if the pool is full
+     */
+    public boolean release(N node) {
+        if (count == nodes.length) return false;
+
+        nodes[count++] = node;
+        return true;
+    }
+
+    /**
+     * Returns the number of nodes that can be acquired.
+     *
+     * @return the number of pooled nodes
+     */
+    public int available() {
+        return count;
+    }
+
+    /**
+     * Returns the maximum number of nodes the pool keeps.
+     *
+     * @return the capacity of the pool
+     */
+    public int capacity() {
+        return nodes.length;
+    }
+}